@@ -2,10 +2,14 @@ package com.niolikon.taskboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableTransactionManagement
+@EnableCaching
+@EnableScheduling
 public class TaskBoardServiceBootApplication {
 
 	public static void main(String[] args) {
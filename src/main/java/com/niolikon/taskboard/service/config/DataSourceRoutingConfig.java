@@ -0,0 +1,79 @@
+package com.niolikon.taskboard.service.config;
+
+import com.niolikon.taskboard.service.data.routing.DataSourceRole;
+import com.niolikon.taskboard.service.data.routing.ReadReplicaRoutingDataSource;
+import com.niolikon.taskboard.service.data.routing.ReadYourWritesInterceptor;
+import com.niolikon.taskboard.service.data.routing.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Active when {@code taskboard.datasource.replica.url} is set: read-only transactions are served by the replica,
+ * everything else (including Flyway) by the primary configured under {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskboard.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    private final ReplicaDataSourceProperties replicaProperties;
+
+    public DataSourceRoutingConfig(ReplicaDataSourceProperties replicaProperties) {
+        this.replicaProperties = replicaProperties;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        return primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("taskboard.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties) {
+        return primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.url())
+                .username(Objects.requireNonNullElse(replicaProperties.username(), primaryProperties.determineUsername()))
+                .password(Objects.requireNonNullElse(replicaProperties.password(), primaryProperties.determinePassword()))
+                .build();
+    }
+
+    @Bean
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(replicaProperties.readYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.niolikon.taskboard.service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica settings. Username and password fall back to the primary's when not set.
+ * {@code readYourWritesWindow} keeps an owner's reads on the primary for that long after each write;
+ * zero disables it.
+ */
+@ConfigurationProperties("taskboard.datasource.replica")
+public record ReplicaDataSourceProperties(String url,
+                                          String username,
+                                          String password,
+                                          @DefaultValue("5s") Duration readYourWritesWindow) {
+}
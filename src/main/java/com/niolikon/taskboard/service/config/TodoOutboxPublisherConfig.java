@@ -0,0 +1,20 @@
+package com.niolikon.taskboard.service.config;
+
+import com.niolikon.taskboard.service.todo.outbox.LoggingTodoOutboxPublisher;
+import com.niolikon.taskboard.service.todo.outbox.TodoOutboxPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox messages are logged unless another {@link TodoOutboxPublisher} is provided.
+ */
+@Configuration
+public class TodoOutboxPublisherConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TodoOutboxPublisher.class)
+    public TodoOutboxPublisher loggingTodoOutboxPublisher() {
+        return new LoggingTodoOutboxPublisher();
+    }
+}
@@ -0,0 +1,31 @@
+package com.niolikon.taskboard.service.config;
+
+import com.niolikon.taskboard.service.todo.reminder.LoggingTodoReminderSink;
+import com.niolikon.taskboard.service.todo.reminder.TodoReminderSink;
+import com.niolikon.taskboard.service.todo.reminder.WebhookTodoReminderSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Reminders are posted to {@code taskboard.reminders.webhook.url} when set, and logged otherwise.
+ */
+@Configuration
+public class TodoReminderSinkConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskboard.reminders.webhook", name = "url")
+    public TodoReminderSink webhookTodoReminderSink(RestClient.Builder restClientBuilder,
+                                                    @Value("${taskboard.reminders.webhook.url}") String url) {
+        return new WebhookTodoReminderSink(restClientBuilder.baseUrl(url).build());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TodoReminderSink.class)
+    public TodoReminderSink loggingTodoReminderSink() {
+        return new LoggingTodoReminderSink();
+    }
+}
@@ -0,0 +1,20 @@
+package com.niolikon.taskboard.service.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int elementsSize;
+    private int pageSize;
+    private String next;
+    private boolean last;
+}
@@ -0,0 +1,33 @@
+package com.niolikon.taskboard.service.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SliceResponse<T> {
+    private List<T> content;
+    private int elementsSize;
+    private int pageNumber;
+    private int pageSize;
+    private boolean first;
+    private boolean last;
+    private boolean empty;
+
+    public SliceResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.elementsSize = slice.getNumberOfElements();
+        this.pageNumber = slice.getNumber();
+        this.pageSize = slice.getSize();
+        this.first = slice.isFirst();
+        this.last = slice.isLast();
+        this.empty = slice.isEmpty();
+    }
+}
@@ -0,0 +1,6 @@
+package com.niolikon.taskboard.service.data.routing;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
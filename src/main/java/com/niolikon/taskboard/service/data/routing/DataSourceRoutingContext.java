@@ -0,0 +1,23 @@
+package com.niolikon.taskboard.service.data.routing;
+
+/**
+ * Thread-bound override that pins the current thread's connections to the primary, regardless of the
+ * read-only flag of its transactions.
+ */
+public final class DataSourceRoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+}
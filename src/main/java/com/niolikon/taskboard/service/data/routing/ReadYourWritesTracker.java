@@ -0,0 +1,59 @@
+package com.niolikon.taskboard.service.data.routing;
+
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which owners committed a write recently, so that their reads can be kept on the primary
+ * until the replica has had time to catch up. State is local to this instance.
+ */
+public class ReadYourWritesTracker {
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Long> lastWriteByOwner = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoEvent(TodoEvent event) {
+        recordWrite(event.getOwnerUid());
+    }
+
+    public void recordWrite(String ownerUid) {
+        if (window.isZero() || window.isNegative()) {
+            return;
+        }
+        long now = clock.millis();
+        if (lastWriteByOwner.size() >= PURGE_THRESHOLD) {
+            lastWriteByOwner.values().removeIf(lastWrite -> isExpired(lastWrite, now));
+        }
+        lastWriteByOwner.put(ownerUid, now);
+    }
+
+    public boolean isSticky(String ownerUid) {
+        Long lastWrite = lastWriteByOwner.get(ownerUid);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (isExpired(lastWrite, clock.millis())) {
+            lastWriteByOwner.remove(ownerUid, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isExpired(long lastWrite, long now) {
+        return now - lastWrite >= window.toMillis();
+    }
+}
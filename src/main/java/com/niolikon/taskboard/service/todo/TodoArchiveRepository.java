@@ -0,0 +1,32 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.ArchivedTodo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface TodoArchiveRepository extends JpaRepository<ArchivedTodo, Long> {
+    @Query(value = "select new com.niolikon.taskboard.service.todo.dto.TodoView(" +
+            "a.id, a.title, a.description, a.isCompleted, a.dueDate) from ArchivedTodo a where a.ownerUid = :ownerUid",
+            countQuery = "select count(a) from ArchivedTodo a where a.ownerUid = :ownerUid")
+    Page<TodoView> findViewsByOwnerUid(@Param("ownerUid") String ownerUid, Pageable pageable);
+
+    // The owners narrow both statements to their partitions of todos and to its (owner_uid, id) key
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into todos_archive (id, title, description, is_completed, due_date, owner_uid, completed_at, archived_at) " +
+            "select id, title, description, is_completed, due_date, owner_uid, completed_at, current_timestamp " +
+            "from todos where owner_uid in (:ownerUids) and id in (:ids)", nativeQuery = true)
+    int copyFromTodos(@Param("ownerUids") Collection<String> ownerUids, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from todos where owner_uid in (:ownerUids) and id in (:ids)", nativeQuery = true)
+    int deleteFromTodos(@Param("ownerUids") Collection<String> ownerUids, @Param("ids") Collection<Long> ids);
+}
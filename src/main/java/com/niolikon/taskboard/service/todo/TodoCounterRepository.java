@@ -0,0 +1,54 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
+import com.niolikon.taskboard.service.todo.model.TodoCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TodoCounterRepository extends JpaRepository<TodoCounter, String> {
+    @Modifying
+    @Query("update TodoCounter c set c.pendingCount = c.pendingCount + :pendingDelta, " +
+            "c.completedCount = c.completedCount + :completedDelta, c.version = c.version + 1 where c.ownerUid = :ownerUid")
+    int increment(@Param("ownerUid") String ownerUid,
+                  @Param("pendingDelta") long pendingDelta,
+                  @Param("completedDelta") long completedDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into todo_counters (owner_uid, pending_count, completed_count, version) " +
+            "select :ownerUid, " +
+            "coalesce(sum(case when is_completed then 0 else 1 end), 0), " +
+            "coalesce(sum(case when is_completed then 1 else 0 end), 0), 1 " +
+            "from todos where owner_uid = :ownerUid " +
+            "on conflict do nothing", nativeQuery = true)
+    int seed(@Param("ownerUid") String ownerUid);
+
+    @Query("select new com.niolikon.taskboard.service.todo.dto.TodoSummary(c.pendingCount, c.completedCount, " +
+            "(select coalesce(sum(d.pendingCount), 0) from TodoDueCounter d where d.ownerUid = c.ownerUid and d.dueDate < :today), " +
+            "(select coalesce(sum(d.pendingCount), 0) from TodoDueCounter d where d.ownerUid = c.ownerUid and d.dueDate = :today)) " +
+            "from TodoCounter c where c.ownerUid = :ownerUid")
+    Optional<TodoSummary> findSummaryByOwnerUid(@Param("ownerUid") String ownerUid, @Param("today") LocalDate today);
+
+    @Query("select c.version from TodoCounter c where c.ownerUid = :ownerUid")
+    Optional<Long> findVersionByOwnerUid(@Param("ownerUid") String ownerUid);
+
+    @Query(value = "select owner_uid from todo_counters where owner_uid > :after order by owner_uid limit :limit", nativeQuery = true)
+    List<String> findOwnerUidsAfter(@Param("after") String after, @Param("limit") int limit);
+
+    @Query(value = "select owner_uid from todo_counters where owner_uid = :ownerUid for update", nativeQuery = true)
+    Optional<String> lockByOwnerUid(@Param("ownerUid") String ownerUid);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update todo_counters set " +
+            "pending_count = (select count(*) from todos where owner_uid = :ownerUid and (is_completed = false or is_completed is null)), " +
+            "completed_count = (select count(*) from todos where owner_uid = :ownerUid and is_completed = true) " +
+            "where owner_uid = :ownerUid", nativeQuery = true)
+    int recount(@Param("ownerUid") String ownerUid);
+}
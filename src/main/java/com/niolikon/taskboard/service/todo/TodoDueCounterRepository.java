@@ -0,0 +1,43 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.model.TodoDueCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TodoDueCounterRepository extends JpaRepository<TodoDueCounter, TodoDueCounter.Key> {
+    @Modifying
+    @Query("update TodoDueCounter c set c.pendingCount = c.pendingCount + :pendingDelta " +
+            "where c.ownerUid = :ownerUid and c.dueDate = :dueDate")
+    int increment(@Param("ownerUid") String ownerUid,
+                  @Param("dueDate") LocalDate dueDate,
+                  @Param("pendingDelta") long pendingDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into todo_due_counters (owner_uid, due_date, pending_count) " +
+            "select :ownerUid, :dueDate, count(*) from todos " +
+            "where owner_uid = :ownerUid and due_date = :dueDate " +
+            "and (is_completed = false or is_completed is null) " +
+            "on conflict do nothing", nativeQuery = true)
+    int seed(@Param("ownerUid") String ownerUid,
+             @Param("dueDate") LocalDate dueDate);
+
+    List<TodoDueCounter> findByOwnerUid(String ownerUid);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from TodoDueCounter c where c.ownerUid = :ownerUid")
+    int deleteByOwnerUid(@Param("ownerUid") String ownerUid);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert into todo_due_counters (owner_uid, due_date, pending_count) " +
+            "select owner_uid, due_date, count(*) from todos " +
+            "where owner_uid = :ownerUid and due_date is not null and (is_completed = false or is_completed is null) " +
+            "group by owner_uid, due_date", nativeQuery = true)
+    int recount(@Param("ownerUid") String ownerUid);
+}
@@ -0,0 +1,16 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TodoOutboxRepository extends JpaRepository<TodoOutboxMessage, Long> {
+    // Lowest ids first, roughly the oldest messages; messages locked by a concurrent relay are skipped
+    @Query(value = "select * from todo_outbox order by id limit :limit for update skip locked", nativeQuery = true)
+    List<TodoOutboxMessage> findNextBatchForUpdate(@Param("limit") int limit);
+}
@@ -1,16 +1,106 @@
 package com.niolikon.taskboard.service.todo;
 
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
 import com.niolikon.taskboard.service.todo.model.Todo;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
-    Page<Todo> findByOwnerUid(String ownerUid, Pageable pageable);
-    Page<Todo> findByOwnerUidAndIsCompleted(String ownerUid, Boolean isCompleted, Pageable pageable);
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
+    String TODO_VIEW_PROJECTION = "select new com.niolikon.taskboard.service.todo.dto.TodoView(" +
+            "t.id, t.title, t.description, t.isCompleted, t.dueDate) from Todo t ";
+
+    @Query(value = TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid",
+            countQuery = "select count(t) from Todo t where t.ownerUid = :ownerUid")
+    Page<TodoView> findViewsByOwnerUid(@Param("ownerUid") String ownerUid, Pageable pageable);
+
+    @Query(value = TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid and t.isCompleted = :isCompleted",
+            countQuery = "select count(t) from Todo t where t.ownerUid = :ownerUid and t.isCompleted = :isCompleted")
+    Page<TodoView> findViewsByOwnerUidAndIsCompleted(@Param("ownerUid") String ownerUid,
+                                                     @Param("isCompleted") Boolean isCompleted,
+                                                     Pageable pageable);
+
+    @Query(TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid")
+    Slice<TodoView> findViewSliceByOwnerUid(@Param("ownerUid") String ownerUid, Pageable pageable);
+
+    @Query(TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid and t.isCompleted = :isCompleted")
+    Slice<TodoView> findViewSliceByOwnerUidAndIsCompleted(@Param("ownerUid") String ownerUid,
+                                                          @Param("isCompleted") Boolean isCompleted,
+                                                          Pageable pageable);
+
+    @Query(value = TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid and t.isCompleted = false and t.dueDate < :today",
+            countQuery = "select count(t) from Todo t where t.ownerUid = :ownerUid and t.isCompleted = false and t.dueDate < :today")
+    Page<TodoView> findPendingViewsByOwnerUidAndDueDateBefore(@Param("ownerUid") String ownerUid,
+                                                              @Param("today") LocalDate today,
+                                                              Pageable pageable);
+
+    @Query(value = TODO_VIEW_PROJECTION + "where t.ownerUid = :ownerUid and t.isCompleted = false " +
+            "and t.dueDate >= :from and t.dueDate <= :to",
+            countQuery = "select count(t) from Todo t where t.ownerUid = :ownerUid and t.isCompleted = false " +
+            "and t.dueDate >= :from and t.dueDate <= :to")
+    Page<TodoView> findPendingViewsByOwnerUidAndDueDateBetween(@Param("ownerUid") String ownerUid,
+                                                               @Param("from") LocalDate from,
+                                                               @Param("to") LocalDate to,
+                                                               Pageable pageable);
+
+    Window<Todo> findByOwnerUid(String ownerUid, ScrollPosition position, Limit limit, Sort sort);
+    Window<Todo> findByOwnerUidAndIsCompleted(String ownerUid, Boolean isCompleted, ScrollPosition position, Limit limit, Sort sort);
     Optional<Todo> findByIdAndOwnerUid(Long id, String ownerUid);
+
+    @Query("select new com.niolikon.taskboard.service.todo.dto.TodoSummary(" +
+            "coalesce(sum(case when t.isCompleted = true then 0L else 1L end), 0L), " +
+            "coalesce(sum(case when t.isCompleted = true then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when t.isCompleted = true then 0L when t.dueDate < :today then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when t.isCompleted = true then 0L when t.dueDate = :today then 1L else 0L end), 0L)) " +
+            "from Todo t where t.ownerUid = :ownerUid")
+    TodoSummary summarizeByOwnerUid(@Param("ownerUid") String ownerUid, @Param("today") LocalDate today);
+    boolean existsByIdAndOwnerUid(Long id, String ownerUid);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Todo> findByOwnerUidAndIdIn(String ownerUid, Collection<Long> ids);
+
+    // Oldest completed todos across owners; rows already locked by a concurrent archival batch are skipped
+    @Query(value = "select * from todos where is_completed = true and completed_at < :cutoff " +
+            "order by completed_at, id limit :limit for update skip locked", nativeQuery = true)
+    List<Todo> findArchivableForUpdate(@Param("cutoff") Date cutoff, @Param("limit") int limit);
+
+    // Pending todos due on a day across owners, in id order so that they can be read in keyset batches
+    @Query("select new com.niolikon.taskboard.service.todo.dto.TodoReminder(t.ownerUid, t.id, t.title, t.dueDate) " +
+            "from Todo t where t.isCompleted = false and t.dueDate = :dueDate and t.id > :afterId order by t.id")
+    List<TodoReminder> findPendingRemindersByDueDate(@Param("dueDate") LocalDate dueDate,
+                                                     @Param("afterId") Long afterId,
+                                                     Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Todo t set t.title = coalesce(:title, t.title), t.description = coalesce(:description, t.description), " +
+            "t.isCompleted = coalesce(:isCompleted, t.isCompleted), t.dueDate = coalesce(:dueDate, t.dueDate), " +
+            "t.completedAt = case when :isCompleted = true then current_timestamp else t.completedAt end, " +
+            "t.updatedAt = current_timestamp, t.version = t.version + 1 " +
+            "where t.ownerUid = :ownerUid and t.id in :ids and (t.isCompleted = false or t.isCompleted is null)")
+    int patchPendingByOwnerUidAndIdIn(@Param("ownerUid") String ownerUid,
+                                      @Param("ids") Collection<Long> ids,
+                                      @Param("title") String title,
+                                      @Param("description") String description,
+                                      @Param("isCompleted") Boolean isCompleted,
+                                      @Param("dueDate") LocalDate dueDate);
 }
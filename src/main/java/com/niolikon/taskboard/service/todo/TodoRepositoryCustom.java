@@ -0,0 +1,60 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TodoRepositoryCustom {
+    /**
+     * Deletes the owner's todos among {@code ids} with a single statement and returns the removed rows, detached.
+     */
+    List<Todo> deleteAllByOwnerUidAndIdInReturning(String ownerUid, Collection<Long> ids);
+
+    /**
+     * Deletes the owner's todo with a single statement, provided it is still at {@code expectedVersion} unless that
+     * is null, and returns the removed row, detached. Empty when no row matched.
+     */
+    Optional<Todo> deleteByIdAndOwnerUidReturning(Long id, String ownerUid, Long expectedVersion);
+
+    /**
+     * Applies the non-empty fields of {@code changes} to the owner's todo with a single statement and bumps its
+     * version, provided it is not completed and is still at {@code expectedVersion} unless that is null. Returns the
+     * row as it was before the update, detached. Empty when no row matched.
+     */
+    Optional<Todo> updatePendingByIdAndOwnerUidReturningPrevious(Long id, String ownerUid, Todo changes,
+                                                                 Long expectedVersion);
+
+    /**
+     * Streams the owner's todos in id order from a server-side cursor, fetched in chunks. Each todo is detached as it
+     * is handed out, so the persistence context does not grow with the row count. The stream must be closed, and
+     * consumed within a transaction.
+     */
+    Stream<Todo> streamByOwnerUid(String ownerUid);
+
+    /**
+     * Finds the owner's todos whose title or description matches {@code query}. On PostgreSQL the query is parsed as
+     * a web search over the full-text index, and titles also match on substrings and near-misses through the trigram
+     * index; results come best match first. Other databases match every term as a case-insensitive substring, in id
+     * order. The sort of {@code pageable} is not applied.
+     */
+    Page<TodoView> searchViewsByOwnerUid(String ownerUid, String query, Pageable pageable);
+
+    /**
+     * Reads up to {@code limit} changes of the owner after the {@code (changedAt, id)} position, in that order: the
+     * todos inserted or updated since, and the tombstones of those removed since, which carry no todo.
+     */
+    List<TodoChange> findChangesByOwnerUidAfter(String ownerUid, LocalDateTime changedAt, Long id, int limit);
+
+    /**
+     * The current time on the database clock, which stamps {@code updated_at} and the tombstones.
+     */
+    LocalDateTime currentTimestamp();
+}
@@ -0,0 +1,266 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Data-modifying statements that hand back the affected rows in the same round trip:
+ * {@code RETURNING} on PostgreSQL, the {@code OLD TABLE} / {@code FINAL TABLE} delta tables on H2.
+ * Also the cursor-backed stream of an owner's todos, which detaches rows as they are read, and the owner-scoped
+ * search: tsvector and trigram matching on PostgreSQL, term-by-term {@code like} matching on H2, and the changes
+ * read by delta sync, merged from todos and tombstones.
+ */
+class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String DELETE_BY_OWNER_AND_IDS =
+            "delete from todos where owner_uid = :ownerUid and id in (:ids)";
+    // A null expected version skips the optimistic check
+    private static final String AT_EXPECTED_VERSION = "(:expectedVersion is null or version = :expectedVersion)";
+    private static final String DELETE_BY_ID_AND_OWNER_AT_EXPECTED_VERSION =
+            "delete from todos where id = :id and owner_uid = :ownerUid and " + AT_EXPECTED_VERSION;
+    private static final String PENDING_BY_ID_AND_OWNER_AT_EXPECTED_VERSION =
+            "id = :id and owner_uid = :ownerUid and (is_completed = false or is_completed is null) and " + AT_EXPECTED_VERSION;
+    private static final String UPDATE_PENDING_BY_ID_AND_OWNER =
+            "update todos set title = coalesce(:title, title), description = coalesce(:description, description), " +
+            "is_completed = coalesce(:isCompleted, is_completed), due_date = coalesce(:dueDate, due_date), " +
+            "completed_at = case when :isCompleted = true then current_timestamp else completed_at end, " +
+            "updated_at = current_timestamp, version = version + 1 " +
+            "where " + PENDING_BY_ID_AND_OWNER_AT_EXPECTED_VERSION;
+    // RETURNING only sees the new row version, so the previous one is captured by a locking CTE
+    private static final String UPDATE_PENDING_BY_ID_AND_OWNER_RETURNING_PREVIOUS_POSTGRESQL =
+            "with previous as (select * from todos where " + PENDING_BY_ID_AND_OWNER_AT_EXPECTED_VERSION + " for update) " +
+            "update todos t set title = coalesce(:title, t.title), description = coalesce(:description, t.description), " +
+            "is_completed = coalesce(:isCompleted, t.is_completed), due_date = coalesce(:dueDate, t.due_date), " +
+            "completed_at = case when :isCompleted = true then current_timestamp else t.completed_at end, " +
+            "updated_at = current_timestamp, version = t.version + 1 " +
+            "from previous where t.owner_uid = :ownerUid and t.id = previous.id returning previous.*";
+    // Full-text match on the weighted tsvector, substring/prefix and typo-tolerant matches on the title trigrams
+    private static final String SEARCH_BY_OWNER_POSTGRESQL =
+            "from todos t where t.owner_uid = :ownerUid and (t.search_vector @@ websearch_to_tsquery('simple', :query) " +
+            "or t.title ilike :pattern escape '\\' or :query <% t.title)";
+    private static final String SEARCH_VIEWS_BY_OWNER_POSTGRESQL =
+            "select t.id, t.title, t.description, t.is_completed, t.due_date " + SEARCH_BY_OWNER_POSTGRESQL + " " +
+            "order by ts_rank(t.search_vector, websearch_to_tsquery('simple', :query)) desc, " +
+            "word_similarity(:query, t.title) desc, t.id";
+    private static final String COUNT_SEARCH_BY_OWNER_POSTGRESQL = "select count(*) " + SEARCH_BY_OWNER_POSTGRESQL;
+    // Each side reads at most a page from its (owner_uid, changed at, id) index before the two are merged
+    private static final String CHANGES_BY_OWNER_AFTER =
+            "select * from (select id, title, description, is_completed, due_date, version, " +
+            "updated_at as changed_at, false as removed from todos " +
+            "where owner_uid = :ownerUid and (updated_at, id) > (:changedAt, :id) " +
+            "order by updated_at, id limit :limit) updated " +
+            "union all " +
+            "select * from (select todo_id as id, cast(null as varchar(255)) as title, " +
+            "cast(null as varchar(255)) as description, cast(null as boolean) as is_completed, " +
+            "cast(null as date) as due_date, cast(null as bigint) as version, " +
+            "removed_at as changed_at, true as removed from todo_tombstones " +
+            "where owner_uid = :ownerUid and (removed_at, todo_id) > (:changedAt, :id) " +
+            "order by removed_at, todo_id limit :limit) removed " +
+            "order by changed_at, id limit :limit";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Todo> deleteAllByOwnerUidAndIdInReturning(String ownerUid, Collection<Long> ids) {
+        String sql = isPostgreSQL()
+                ? DELETE_BY_OWNER_AND_IDS + " returning *"
+                : "select * from old table (" + DELETE_BY_OWNER_AND_IDS + ")";
+        @SuppressWarnings("unchecked")
+        List<Todo> deletedTodos = entityManager.createNativeQuery(sql, Todo.class)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("ids", ids)
+                .getResultList();
+        deletedTodos.forEach(entityManager::detach);
+        return deletedTodos;
+    }
+
+    @Override
+    public Optional<Todo> deleteByIdAndOwnerUidReturning(Long id, String ownerUid, Long expectedVersion) {
+        String sql = isPostgreSQL()
+                ? DELETE_BY_ID_AND_OWNER_AT_EXPECTED_VERSION + " returning *"
+                : "select * from old table (" + DELETE_BY_ID_AND_OWNER_AT_EXPECTED_VERSION + ")";
+        @SuppressWarnings("unchecked")
+        NativeQuery<Todo> query = entityManager.createNativeQuery(sql, Todo.class).unwrap(NativeQuery.class);
+        List<Todo> deletedTodos = query
+                .setParameter("id", id)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("expectedVersion", expectedVersion, StandardBasicTypes.LONG)
+                .getResultList();
+        deletedTodos.forEach(entityManager::detach);
+        return deletedTodos.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Todo> updatePendingByIdAndOwnerUidReturningPrevious(Long id, String ownerUid, Todo changes,
+                                                                        Long expectedVersion) {
+        String sql = isPostgreSQL()
+                ? UPDATE_PENDING_BY_ID_AND_OWNER_RETURNING_PREVIOUS_POSTGRESQL
+                : "select * from old table (" + UPDATE_PENDING_BY_ID_AND_OWNER + ")";
+        @SuppressWarnings("unchecked")
+        NativeQuery<Todo> query = entityManager.createNativeQuery(sql, Todo.class).unwrap(NativeQuery.class);
+        // Typed binds: a null must not reach PostgreSQL as an untyped parameter
+        List<Todo> previousTodos = query
+                .setParameter("title", emptyToNull(changes.getTitle()), StandardBasicTypes.STRING)
+                .setParameter("description", emptyToNull(changes.getDescription()), StandardBasicTypes.STRING)
+                .setParameter("isCompleted", changes.getIsCompleted(), StandardBasicTypes.BOOLEAN)
+                .setParameter("dueDate", changes.getDueDate(), StandardBasicTypes.LOCAL_DATE)
+                .setParameter("id", id)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("expectedVersion", expectedVersion, StandardBasicTypes.LONG)
+                .getResultList();
+        previousTodos.forEach(entityManager::detach);
+        return previousTodos.stream().findFirst();
+    }
+
+    @Override
+    public Stream<Todo> streamByOwnerUid(String ownerUid) {
+        return entityManager.createQuery("select t from Todo t where t.ownerUid = :ownerUid order by t.id", Todo.class)
+                .setParameter("ownerUid", ownerUid)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::detached);
+    }
+
+    @Override
+    public Page<TodoView> searchViewsByOwnerUid(String ownerUid, String query, Pageable pageable) {
+        return isPostgreSQL()
+                ? searchViewsByOwnerUidPostgreSQL(ownerUid, query, pageable)
+                : searchViewsByOwnerUidTerms(ownerUid, query, pageable);
+    }
+
+    private Page<TodoView> searchViewsByOwnerUidPostgreSQL(String ownerUid, String query, Pageable pageable) {
+        String pattern = "%" + escapeLike(query) + "%";
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> searchQuery = entityManager.createNativeQuery(SEARCH_VIEWS_BY_OWNER_POSTGRESQL)
+                .unwrap(NativeQuery.class);
+        List<TodoView> views = searchQuery
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("is_completed", StandardBasicTypes.BOOLEAN)
+                .addScalar("due_date", StandardBasicTypes.LOCAL_DATE)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("query", query)
+                .setParameter("pattern", pattern)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(row -> new TodoView((Long) row[0], (String) row[1], (String) row[2], (Boolean) row[3], (LocalDate) row[4]))
+                .toList();
+        return PageableExecutionUtils.getPage(views, pageable, () -> ((Number) entityManager
+                .createNativeQuery(COUNT_SEARCH_BY_OWNER_POSTGRESQL)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("query", query)
+                .setParameter("pattern", pattern)
+                .getSingleResult()).longValue());
+    }
+
+    // Every whitespace-separated term must occur, case-insensitively, in the title or the description
+    private Page<TodoView> searchViewsByOwnerUidTerms(String ownerUid, String query, Pageable pageable) {
+        List<String> patterns = Stream.of(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                .map(term -> "%" + escapeLike(term) + "%")
+                .toList();
+        StringBuilder where = new StringBuilder("where t.ownerUid = :ownerUid");
+        for (int i = 0; i < patterns.size(); i++) {
+            where.append(" and (lower(t.title) like :term").append(i).append(" escape '\\'")
+                    .append(" or lower(t.description) like :term").append(i).append(" escape '\\')");
+        }
+        TypedQuery<TodoView> searchQuery = entityManager
+                .createQuery(TodoRepository.TODO_VIEW_PROJECTION + where + " order by t.id", TodoView.class)
+                .setParameter("ownerUid", ownerUid)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        TypedQuery<Long> countQuery = entityManager
+                .createQuery("select count(t) from Todo t " + where, Long.class)
+                .setParameter("ownerUid", ownerUid);
+        for (int i = 0; i < patterns.size(); i++) {
+            searchQuery.setParameter("term" + i, patterns.get(i));
+            countQuery.setParameter("term" + i, patterns.get(i));
+        }
+        return PageableExecutionUtils.getPage(searchQuery.getResultList(), pageable, countQuery::getSingleResult);
+    }
+
+    @Override
+    public List<TodoChange> findChangesByOwnerUidAfter(String ownerUid, LocalDateTime changedAt, Long id, int limit) {
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> changesQuery = entityManager.createNativeQuery(CHANGES_BY_OWNER_AFTER)
+                .unwrap(NativeQuery.class);
+        return changesQuery
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("is_completed", StandardBasicTypes.BOOLEAN)
+                .addScalar("due_date", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("changed_at", StandardBasicTypes.LOCAL_DATE_TIME)
+                .addScalar("removed", StandardBasicTypes.BOOLEAN)
+                .setParameter("ownerUid", ownerUid)
+                .setParameter("changedAt", changedAt, StandardBasicTypes.LOCAL_DATE_TIME)
+                .setParameter("id", id)
+                .setParameter("limit", limit)
+                .getResultList().stream()
+                .map(TodoRepositoryCustomImpl::toTodoChange)
+                .toList();
+    }
+
+    @Override
+    public LocalDateTime currentTimestamp() {
+        @SuppressWarnings("unchecked")
+        NativeQuery<LocalDateTime> timestampQuery = entityManager.createNativeQuery("select localtimestamp as now")
+                .unwrap(NativeQuery.class);
+        return timestampQuery
+                .addScalar("now", StandardBasicTypes.LOCAL_DATE_TIME)
+                .getSingleResult();
+    }
+
+    private static TodoChange toTodoChange(Object[] row) {
+        Long id = (Long) row[0];
+        if (Boolean.TRUE.equals(row[7])) {
+            return new TodoChange(id, null, null, (LocalDateTime) row[6]);
+        }
+        TodoView todo = new TodoView(id, (String) row[1], (String) row[2], (Boolean) row[3], (LocalDate) row[4], (Long) row[5]);
+        return new TodoChange(id, todo.getVersion(), todo, (LocalDateTime) row[6]);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Todo detached(Todo todo) {
+        entityManager.detach(todo);
+        return todo;
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,19 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.service.todo.model.TodoTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+    // Oldest first, a bounded batch per statement
+    @Modifying
+    @Query(value = "delete from todo_tombstones where todo_id in (select todo_id from todo_tombstones " +
+            "where removed_at < :cutoff order by removed_at limit :limit)", nativeQuery = true)
+    int deleteRemovedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
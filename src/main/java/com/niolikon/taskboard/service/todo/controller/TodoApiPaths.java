@@ -4,16 +4,53 @@ public final class TodoApiPaths {
     private TodoApiPaths() {}
 
     public static final String PATH_VARIABLE_TODO_ID = "id";
+    public static final int TODO_SEARCH_QUERY_MAX_LENGTH = 200;
+    public static final int TODO_PAGE_MAX_SIZE = 100;
+    public static final int TODO_CHANGES_MAX_SIZE = 1000;
+    public static final String TODO_CHANGES_DEFAULT_SIZE = "500";
+    public static final String REQUEST_PARAM_TODO_AFTER = "after";
+    public static final String REQUEST_PARAM_TODO_WITH_TOTAL = "withTotal";
+    public static final String REQUEST_PARAM_TODO_FORMAT = "format";
+    public static final String REQUEST_PARAM_TODO_QUERY = "q";
+    public static final String REQUEST_PARAM_TODO_FROM = "from";
+    public static final String REQUEST_PARAM_TODO_TO = "to";
+    public static final String REQUEST_PARAM_TODO_SINCE = "since";
+    public static final String REQUEST_PARAM_TODO_SIZE = "size";
+
+    public static final String PARAMS_TODO_WITHOUT_TOTAL = REQUEST_PARAM_TODO_WITH_TOTAL + "=false";
+    public static final String PARAMS_TODO_WITH_ESTIMATED_TOTAL = REQUEST_PARAM_TODO_WITH_TOTAL + "=estimated";
+    public static final String PARAMS_TODO_NOT_AFTER = "!" + REQUEST_PARAM_TODO_AFTER;
+    public static final String PARAMS_TODO_FORMAT_CSV = REQUEST_PARAM_TODO_FORMAT + "=csv";
 
     public static final String MAPPING_PATH_TODO_BASE = "/api/Todos";
     public static final String MAPPING_PATH_TODO_BY_ID = "/{" + PATH_VARIABLE_TODO_ID + "}";
     public static final String MAPPING_PATH_TODO_PENDING = "/pending";
     public static final String MAPPING_PATH_TODO_COMPLETED = "/completed";
+    public static final String MAPPING_PATH_TODO_OVERDUE = "/overdue";
+    public static final String MAPPING_PATH_TODO_DUE = "/due";
+    public static final String MAPPING_PATH_TODO_ARCHIVED = "/archived";
+    public static final String MAPPING_PATH_TODO_SEARCH = "/search";
+    public static final String MAPPING_PATH_TODO_EXPORT = "/export";
+    public static final String MAPPING_PATH_TODO_IMPORT = "/import";
+    public static final String MAPPING_PATH_TODO_BATCH = "/batch";
+    public static final String MAPPING_PATH_TODO_SUMMARY = "/summary";
+    public static final String MAPPING_PATH_TODO_EVENTS = "/events";
+    public static final String MAPPING_PATH_TODO_CHANGES = "/changes";
 
     public static final String API_PATH_TODO_BASE = MAPPING_PATH_TODO_BASE;
     public static final String API_PATH_TODO_BY_ID = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_BY_ID;
     public static final String API_PATH_TODO_PENDING = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_PENDING;
     public static final String API_PATH_TODO_COMPLETED = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_COMPLETED;
+    public static final String API_PATH_TODO_OVERDUE = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_OVERDUE;
+    public static final String API_PATH_TODO_DUE = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_DUE;
+    public static final String API_PATH_TODO_ARCHIVED = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_ARCHIVED;
+    public static final String API_PATH_TODO_SEARCH = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_SEARCH;
+    public static final String API_PATH_TODO_EXPORT = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_EXPORT;
+    public static final String API_PATH_TODO_IMPORT = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_IMPORT;
+    public static final String API_PATH_TODO_BATCH = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_BATCH;
+    public static final String API_PATH_TODO_SUMMARY = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_SUMMARY;
+    public static final String API_PATH_TODO_EVENTS = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_EVENTS;
+    public static final String API_PATH_TODO_CHANGES = MAPPING_PATH_TODO_BASE + MAPPING_PATH_TODO_CHANGES;
 
     public static final String SECURITY_PATTERN_TODO_EXACT = MAPPING_PATH_TODO_BASE;
     public static final String SECURITY_PATTER_TODO_ALL = MAPPING_PATH_TODO_BASE + "/**";
@@ -1,32 +1,82 @@
 package com.niolikon.taskboard.service.todo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.data.dto.CursorPageResponse;
+import com.niolikon.taskboard.service.data.dto.SliceResponse;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkOutcome;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+import com.niolikon.taskboard.service.todo.dto.TodoImportReport;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
+import com.niolikon.taskboard.service.todo.export.TodoCsvExportWriter;
+import com.niolikon.taskboard.service.todo.export.TodoExportWriter;
+import com.niolikon.taskboard.service.todo.export.TodoNdjsonExportWriter;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
 import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 
 import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.*;
+import static com.niolikon.taskboard.service.todo.controller.TodoPageablePolicy.restricted;
+import static com.niolikon.taskboard.service.todo.dto.TodoBatchLimits.TODO_BATCH_MAX_SIZE;
 import static org.springframework.http.ResponseEntity.*;
 
 @RestController
 @RequestMapping(MAPPING_PATH_TODO_BASE)
 public class  TodoController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    // Agenda pages come in due date order unless the client sorts otherwise
+    private static final Sort AGENDA_SORT = Sort.by("dueDate");
+
     private final ITodoService todoService;
+    private final ITodoImportService todoImportService;
+    private final ITodoChangeFeed todoChangeFeed;
+    private final ITodoSyncService todoSyncService;
+    private final ObjectMapper objectMapper;
 
-    public TodoController(ITodoService todoService) {
+    public TodoController(ITodoService todoService, ITodoImportService todoImportService, ITodoChangeFeed todoChangeFeed,
+                          ITodoSyncService todoSyncService, ObjectMapper objectMapper) {
         this.todoService = todoService;
+        this.todoImportService = todoImportService;
+        this.todoChangeFeed = todoChangeFeed;
+        this.todoSyncService = todoSyncService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -39,64 +89,306 @@ public class  TodoController {
                 .path(MAPPING_PATH_TODO_BY_ID)
                 .buildAndExpand(createdTodo.getId())
                 .toUri();
-        return created(location).body(createdTodo);
+        return withETag(created(location), createdTodo).body(createdTodo);
+    }
+
+    @PostMapping(MAPPING_PATH_TODO_BATCH)
+    public ResponseEntity<List<TodoView>> createAll(@AuthenticationPrincipal Jwt jwt,
+                                                    @RequestBody @NotEmpty @Size(max = TODO_BATCH_MAX_SIZE)
+                                                    List<@Valid TodoRequest> todoRequests) {
+        String ownerUid = jwt.getSubject();
+        List<TodoView> createdTodos = todoService.createAll(ownerUid, todoRequests);
+        return status(HttpStatus.CREATED).body(createdTodos);
+    }
+
+    @PostMapping(value = MAPPING_PATH_TODO_IMPORT, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TodoImportReport> importAll(@AuthenticationPrincipal Jwt jwt,
+                                                      InputStream ndjson) throws IOException {
+        String ownerUid = jwt.getSubject();
+        TodoImportReport importReport = todoImportService.importAll(ownerUid, ndjson);
+        return ok().body(importReport);
     }
 
     @GetMapping
     public ResponseEntity<PageResponse<TodoView>> readAll(@AuthenticationPrincipal Jwt jwt,
-                                                          @PageableDefault Pageable pageable) {
+                                                          @PageableDefault Pageable pageable,
+                                                          WebRequest webRequest) {
+        String ownerUid = jwt.getSubject();
+        Pageable restrictedPageable = restricted(pageable);
+        String currentETag = listETag(ownerUid);
+        if (TodoETags.anyMatches(webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH), currentETag)) {
+            return notModified(currentETag);
+        }
+        VersionedTodoPage userTodos = todoService.readAll(ownerUid, restrictedPageable);
+        return listResponse(userTodos);
+    }
+
+    @GetMapping(params = {PARAMS_TODO_WITHOUT_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<SliceResponse<TodoView>> readAllWithoutTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                       @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        SliceResponse<TodoView> userTodos = todoService.readAllWithoutTotal(ownerUid, restricted(pageable));
+        return ok().body(userTodos);
+    }
+
+    @GetMapping(params = {PARAMS_TODO_WITH_ESTIMATED_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<PageResponse<TodoView>> readAllWithEstimatedTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                            @PageableDefault Pageable pageable) {
         String ownerUid = jwt.getSubject();
-        PageResponse<TodoView> userTodos = todoService.readAll(ownerUid, pageable);
+        PageResponse<TodoView> userTodos = todoService.readAllWithEstimatedTotal(ownerUid, restricted(pageable));
         return ok().body(userTodos);
     }
 
+    @GetMapping(params = REQUEST_PARAM_TODO_AFTER)
+    public ResponseEntity<CursorPageResponse<TodoView>> readAll(@AuthenticationPrincipal Jwt jwt,
+                                                                @RequestParam(REQUEST_PARAM_TODO_AFTER) String after,
+                                                                @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        CursorPageResponse<TodoView> userTodos = todoService.readAll(ownerUid, after, restricted(pageable));
+        return ok().body(userTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_SUMMARY)
+    public ResponseEntity<TodoSummary> readSummary(@AuthenticationPrincipal Jwt jwt) {
+        String ownerUid = jwt.getSubject();
+        TodoSummary userSummary = todoService.readSummary(ownerUid);
+        return ok().body(userSummary);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@AuthenticationPrincipal Jwt jwt) {
+        String ownerUid = jwt.getSubject();
+        return todoChangeFeed.subscribe(ownerUid);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_CHANGES)
+    public ResponseEntity<TodoChangePage> readChanges(@AuthenticationPrincipal Jwt jwt,
+                                                      @RequestParam(value = REQUEST_PARAM_TODO_SINCE, required = false) String since,
+                                                      @RequestParam(value = REQUEST_PARAM_TODO_SIZE, defaultValue = TODO_CHANGES_DEFAULT_SIZE)
+                                                      @Min(1) @Max(TODO_CHANGES_MAX_SIZE) int size) {
+        String ownerUid = jwt.getSubject();
+        TodoChangePage changes = todoSyncService.readChanges(ownerUid, since, size);
+        return ok().body(changes);
+    }
+
     @GetMapping(MAPPING_PATH_TODO_BY_ID)
     public ResponseEntity<TodoView> read(@AuthenticationPrincipal Jwt jwt,
                                          @PathVariable(PATH_VARIABLE_TODO_ID) Long id) {
         String ownerUid = jwt.getSubject();
         TodoView userTodo = todoService.read(ownerUid, id);
-        return ok().body(userTodo);
+        return withETag(ok(), userTodo).body(userTodo);
     }
 
     @PutMapping(MAPPING_PATH_TODO_BY_ID)
     public ResponseEntity<TodoView> update(@AuthenticationPrincipal Jwt jwt,
                                            @PathVariable(PATH_VARIABLE_TODO_ID) Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                            @Valid @RequestBody TodoRequest todoRequest) {
         String ownerUid = jwt.getSubject();
-        TodoView userTodo = todoService.update(ownerUid, id, todoRequest);
-        return ok().body(userTodo);
+        TodoView userTodo = todoService.update(ownerUid, id, todoRequest, TodoETags.expectedVersion(ifMatch));
+        return withETag(ok(), userTodo).body(userTodo);
     }
 
     @PatchMapping(MAPPING_PATH_TODO_BY_ID)
     public ResponseEntity<TodoView> patch(@AuthenticationPrincipal Jwt jwt,
                                           @PathVariable(PATH_VARIABLE_TODO_ID) Long id,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                           @Valid @RequestBody TodoPatch todoPatch) {
         String ownerUid = jwt.getSubject();
-        TodoView userTodo = todoService.patch(ownerUid, id, todoPatch);
-        return ok().body(userTodo);
+        TodoView userTodo = todoService.patch(ownerUid, id, todoPatch, TodoETags.expectedVersion(ifMatch));
+        return withETag(ok(), userTodo).body(userTodo);
+    }
+
+    @PatchMapping
+    public ResponseEntity<List<TodoBulkOutcome>> patchAll(@AuthenticationPrincipal Jwt jwt,
+                                                          @Valid @RequestBody TodoBulkPatch todoBulkPatch) {
+        String ownerUid = jwt.getSubject();
+        List<TodoBulkOutcome> outcomes = todoService.patchAll(ownerUid, todoBulkPatch);
+        return ok().body(outcomes);
     }
 
     @GetMapping(MAPPING_PATH_TODO_PENDING)
     public ResponseEntity<PageResponse<TodoView>> readAllPending(@AuthenticationPrincipal Jwt jwt,
-                                                                 @PageableDefault Pageable pageable) {
+                                                                 @PageableDefault Pageable pageable,
+                                                                 WebRequest webRequest) {
         String ownerUid = jwt.getSubject();
-        PageResponse<TodoView> pendingTodos = todoService.readAllPending(ownerUid, pageable);
+        Pageable restrictedPageable = restricted(pageable);
+        String currentETag = listETag(ownerUid);
+        if (TodoETags.anyMatches(webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH), currentETag)) {
+            return notModified(currentETag);
+        }
+        VersionedTodoPage pendingTodos = todoService.readAllPending(ownerUid, restrictedPageable);
+        return listResponse(pendingTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_PENDING, params = {PARAMS_TODO_WITHOUT_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<SliceResponse<TodoView>> readAllPendingWithoutTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                              @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        SliceResponse<TodoView> pendingTodos = todoService.readAllPendingWithoutTotal(ownerUid, restricted(pageable));
+        return ok().body(pendingTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_PENDING, params = {PARAMS_TODO_WITH_ESTIMATED_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<PageResponse<TodoView>> readAllPendingWithEstimatedTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                                   @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> pendingTodos = todoService.readAllPendingWithEstimatedTotal(ownerUid, restricted(pageable));
+        return ok().body(pendingTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_PENDING, params = REQUEST_PARAM_TODO_AFTER)
+    public ResponseEntity<CursorPageResponse<TodoView>> readAllPending(@AuthenticationPrincipal Jwt jwt,
+                                                                       @RequestParam(REQUEST_PARAM_TODO_AFTER) String after,
+                                                                       @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        CursorPageResponse<TodoView> pendingTodos = todoService.readAllPending(ownerUid, after, restricted(pageable));
         return ok().body(pendingTodos);
     }
 
     @GetMapping(MAPPING_PATH_TODO_COMPLETED)
     public ResponseEntity<PageResponse<TodoView>> readAllCompleted(@AuthenticationPrincipal Jwt jwt,
-                                                                   @PageableDefault Pageable pageable) {
+                                                                   @PageableDefault Pageable pageable,
+                                                                   WebRequest webRequest) {
         String ownerUid = jwt.getSubject();
-        PageResponse<TodoView> pendingTodos = todoService.readAllCompleted(ownerUid, pageable);
-        return ok().body(pendingTodos);
+        Pageable restrictedPageable = restricted(pageable);
+        String currentETag = listETag(ownerUid);
+        if (TodoETags.anyMatches(webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH), currentETag)) {
+            return notModified(currentETag);
+        }
+        VersionedTodoPage completedTodos = todoService.readAllCompleted(ownerUid, restrictedPageable);
+        return listResponse(completedTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_COMPLETED, params = {PARAMS_TODO_WITHOUT_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<SliceResponse<TodoView>> readAllCompletedWithoutTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                                @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        SliceResponse<TodoView> completedTodos = todoService.readAllCompletedWithoutTotal(ownerUid, restricted(pageable));
+        return ok().body(completedTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_COMPLETED, params = {PARAMS_TODO_WITH_ESTIMATED_TOTAL, PARAMS_TODO_NOT_AFTER})
+    public ResponseEntity<PageResponse<TodoView>> readAllCompletedWithEstimatedTotal(@AuthenticationPrincipal Jwt jwt,
+                                                                                     @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> completedTodos = todoService.readAllCompletedWithEstimatedTotal(ownerUid, restricted(pageable));
+        return ok().body(completedTodos);
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_COMPLETED, params = REQUEST_PARAM_TODO_AFTER)
+    public ResponseEntity<CursorPageResponse<TodoView>> readAllCompleted(@AuthenticationPrincipal Jwt jwt,
+                                                                         @RequestParam(REQUEST_PARAM_TODO_AFTER) String after,
+                                                                         @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        CursorPageResponse<TodoView> completedTodos = todoService.readAllCompleted(ownerUid, after, restricted(pageable));
+        return ok().body(completedTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_OVERDUE)
+    public ResponseEntity<PageResponse<TodoView>> readAllOverdue(@AuthenticationPrincipal Jwt jwt,
+                                                                 @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> overdueTodos = todoService.readAllOverdue(ownerUid, restricted(pageable, AGENDA_SORT));
+        return ok().body(overdueTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_DUE)
+    public ResponseEntity<PageResponse<TodoView>> readAllDue(@AuthenticationPrincipal Jwt jwt,
+                                                             @RequestParam(REQUEST_PARAM_TODO_FROM)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam(REQUEST_PARAM_TODO_TO)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                             @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> dueTodos = todoService.readAllDue(ownerUid, from, to, restricted(pageable, AGENDA_SORT));
+        return ok().body(dueTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_ARCHIVED)
+    public ResponseEntity<PageResponse<TodoView>> readAllArchived(@AuthenticationPrincipal Jwt jwt,
+                                                                  @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> archivedTodos = todoService.readAllArchived(ownerUid, restricted(pageable));
+        return ok().body(archivedTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_SEARCH)
+    public ResponseEntity<PageResponse<TodoView>> search(@AuthenticationPrincipal Jwt jwt,
+                                                         @RequestParam(REQUEST_PARAM_TODO_QUERY) @NotBlank
+                                                         @Size(max = TODO_SEARCH_QUERY_MAX_LENGTH) String query,
+                                                         @PageableDefault Pageable pageable) {
+        String ownerUid = jwt.getSubject();
+        PageResponse<TodoView> matchingTodos = todoService.search(ownerUid, query, restricted(pageable));
+        return ok().body(matchingTodos);
+    }
+
+    @GetMapping(MAPPING_PATH_TODO_EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportAll(@AuthenticationPrincipal Jwt jwt) {
+        String ownerUid = jwt.getSubject();
+        StreamingResponseBody userTodos = outputStream -> exportAll(ownerUid, new TodoNdjsonExportWriter(objectMapper, outputStream));
+        return toExportResponse(userTodos, MediaType.APPLICATION_NDJSON, "todos.ndjson");
+    }
+
+    @GetMapping(value = MAPPING_PATH_TODO_EXPORT, params = PARAMS_TODO_FORMAT_CSV)
+    public ResponseEntity<StreamingResponseBody> exportAllAsCsv(@AuthenticationPrincipal Jwt jwt) {
+        String ownerUid = jwt.getSubject();
+        StreamingResponseBody userTodos = outputStream -> exportAll(ownerUid, new TodoCsvExportWriter(outputStream));
+        return toExportResponse(userTodos, TEXT_CSV, "todos.csv");
     }
 
     @DeleteMapping(MAPPING_PATH_TODO_BY_ID)
     public ResponseEntity<Void> delete(@AuthenticationPrincipal Jwt jwt,
-                                       @PathVariable(PATH_VARIABLE_TODO_ID) Long id) {
+                                       @PathVariable(PATH_VARIABLE_TODO_ID) Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         String ownerUid = jwt.getSubject();
-        todoService.delete(ownerUid, id);
+        todoService.delete(ownerUid, id, TodoETags.expectedVersion(ifMatch));
         return noContent().build();
     }
+
+    @DeleteMapping
+    public ResponseEntity<List<TodoBulkOutcome>> deleteAll(@AuthenticationPrincipal Jwt jwt,
+                                                           @Valid @RequestBody TodoBulkDelete todoBulkDelete) {
+        String ownerUid = jwt.getSubject();
+        List<TodoBulkOutcome> outcomes = todoService.deleteAll(ownerUid, todoBulkDelete);
+        return ok().body(outcomes);
+    }
+
+    // An owner's lists change only with its version: a matching If-None-Match is answered without reading them
+    private String listETag(String ownerUid) {
+        return TodoETags.ofList(todoService.readVersion(ownerUid));
+    }
+
+    // The strong ETag names the todo version, shared by its JSON, CBOR and Smile bodies: caches must key them by Accept
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, TodoView todo) {
+        builder.varyBy(HttpHeaders.ACCEPT);
+        return (todo.getVersion() == null) ? builder : builder.eTag(TodoETags.ofTodo(todo.getVersion()));
+    }
+
+    // Tagged with the version read along with the page, which may lag behind the current one on a replica
+    private static ResponseEntity<PageResponse<TodoView>> listResponse(VersionedTodoPage todoPage) {
+        return ok().eTag(TodoETags.ofList(todoPage.getVersion())).varyBy(HttpHeaders.ACCEPT).body(todoPage.getPage());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private void exportAll(String ownerUid, TodoExportWriter writer) throws IOException {
+        try {
+            todoService.exportAll(ownerUid, writer);
+        } catch (UncheckedIOException e) {
+            // The client went away: the failed write has already closed the query
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static ResponseEntity<StreamingResponseBody> toExportResponse(StreamingResponseBody body, MediaType mediaType,
+                                                                          String filename) {
+        return ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
 }
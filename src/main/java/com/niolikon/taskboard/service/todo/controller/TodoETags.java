@@ -0,0 +1,70 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+
+/**
+ * Entity tags of the todo API. A todo is tagged with its version as a strong ETag, which clients send back in
+ * {@code If-Match} to update or delete it only if nobody else changed it meanwhile. An owner's lists share a weak ETag
+ * derived from the owner's version, which only serves {@code If-None-Match}: If-Match compares strongly, so it never
+ * matches a list tag.
+ */
+final class TodoETags {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private TodoETags() {}
+
+    static String ofTodo(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String ofList(long ownerVersion) {
+        return WEAK_PREFIX + "\"" + ownerVersion + "\"";
+    }
+
+    /**
+     * Returns the todo version required by an If-Match header, or null when any version will do. Only a single tag is
+     * honored: weak, malformed or multiple tags cannot match and fail the precondition.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            throw new ResponseStatusException(PRECONDITION_FAILED, "If-Match must be a single strong entity tag");
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(PRECONDITION_FAILED, "If-Match does not match any Todo version");
+        }
+    }
+
+    /**
+     * Tells whether the If-None-Match headers list the given list tag, comparing weakly as If-None-Match does. Unlike
+     * {@code WebRequest.checkNotModified}, it leaves the response alone, so a page read later is tagged with its own
+     * version.
+     */
+    static boolean anyMatches(String[] ifNoneMatch, String listETag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = withoutWeakPrefix(listETag);
+        for (String header : ifNoneMatch) {
+            for (String eTag : header.split(",")) {
+                String candidate = eTag.trim();
+                if (ANY.equals(candidate) || withoutWeakPrefix(candidate).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String withoutWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
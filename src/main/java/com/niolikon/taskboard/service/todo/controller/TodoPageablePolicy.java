@@ -0,0 +1,54 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.TODO_PAGE_MAX_SIZE;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Restricts the paging requested by clients to what the owner-leading indexes can serve in order. Only indexed
+ * properties may be sorted on, {@code id} always closes the sort, in the direction of the key before it, so pages are
+ * deterministic and read straight from an index, and page sizes above {@link TodoApiPaths#TODO_PAGE_MAX_SIZE} are
+ * capped.
+ */
+final class TodoPageablePolicy {
+    private static final String ID_PROPERTY = "id";
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(ID_PROPERTY, "dueDate", "title");
+
+    private TodoPageablePolicy() {}
+
+    static Pageable restricted(Pageable pageable) {
+        return restricted(pageable, Sort.unsorted());
+    }
+
+    static Pageable restricted(Pageable pageable, Sort defaultSort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSortOr(defaultSort)) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new ResponseStatusException(BAD_REQUEST, "Cannot sort by " + order.getProperty());
+            }
+            if (order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                throw new ResponseStatusException(BAD_REQUEST, "Cannot sort by " + order.getProperty() + " with the requested options");
+            }
+            orders.add(order);
+            // Ids are unique: keys after it would never be compared
+            if (ID_PROPERTY.equals(order.getProperty())) {
+                break;
+            }
+        }
+        Sort.Order lastOrder = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+        if (lastOrder == null || !ID_PROPERTY.equals(lastOrder.getProperty())) {
+            Sort.Direction direction = (lastOrder == null) ? Sort.Direction.ASC : lastOrder.getDirection();
+            orders.add(new Sort.Order(direction, ID_PROPERTY));
+        }
+        int pageSize = Math.min(pageable.getPageSize(), TODO_PAGE_MAX_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), pageSize, Sort.by(orders));
+    }
+}
@@ -0,0 +1,11 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+/**
+ * Size limits of the todo batch requests, shared by the DTO constraints and the controller.
+ */
+public final class TodoBatchLimits {
+    private TodoBatchLimits() {}
+
+    public static final int TODO_BATCH_MAX_SIZE = 1000;
+    public static final int TODO_BULK_DELETE_MAX_SIZE = 10000;
+}
@@ -0,0 +1,25 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.niolikon.taskboard.service.todo.dto.TodoBatchLimits.TODO_BULK_DELETE_MAX_SIZE;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoBulkDelete {
+    @NotEmpty
+    @Size(max = TODO_BULK_DELETE_MAX_SIZE)
+    @JsonProperty("Ids")
+    private List<@NotNull Long> ids;
+}
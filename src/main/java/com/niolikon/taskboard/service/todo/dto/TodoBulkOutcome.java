@@ -0,0 +1,19 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoBulkOutcome {
+    @JsonProperty("Id")
+    private Long id;
+
+    @JsonProperty("Status")
+    private TodoBulkStatus status;
+}
@@ -0,0 +1,31 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.niolikon.taskboard.service.todo.dto.TodoBatchLimits.TODO_BATCH_MAX_SIZE;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoBulkPatch {
+    @NotEmpty
+    @Size(max = TODO_BATCH_MAX_SIZE)
+    @JsonProperty("Ids")
+    private List<@NotNull Long> ids;
+
+    @NotNull
+    @Valid
+    @JsonProperty("Patch")
+    private TodoPatch patch;
+}
@@ -0,0 +1,8 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+public enum TodoBulkStatus {
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    LOCKED
+}
@@ -0,0 +1,31 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoChange {
+    @JsonProperty("Id")
+    private Long todoId;
+
+    // The version to send back as If-Match; absent once the todo is gone
+    @JsonProperty("Version")
+    private Long version;
+
+    @JsonProperty("Todo")
+    private TodoView todo;
+
+    // When the change was written, on the database clock: delta sync puts it in its token rather than in the body
+    @JsonIgnore
+    private LocalDateTime changedAt;
+
+    public TodoChange(Long todoId, Long version, TodoView todo) {
+        this(todoId, version, todo, null);
+    }
+}
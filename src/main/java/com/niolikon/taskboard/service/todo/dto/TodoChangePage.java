@@ -0,0 +1,25 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoChangePage {
+    @JsonProperty("Changes")
+    private List<TodoChange> changes;
+
+    // Sent back as since: for the next page until the last one, then for the next sync
+    @JsonProperty("Next")
+    private String next;
+
+    @JsonProperty("Last")
+    private boolean last;
+}
@@ -0,0 +1,25 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoImportReport {
+    @JsonProperty("Imported")
+    private Long imported;
+
+    @JsonProperty("Rejected")
+    private Long rejected;
+
+    // The first rejected lines only: the count above covers all of them
+    @JsonProperty("Errors")
+    private List<TodoImportError> errors;
+}
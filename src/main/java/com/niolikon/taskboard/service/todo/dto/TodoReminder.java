@@ -0,0 +1,26 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoReminder {
+    @JsonProperty("OwnerUid")
+    private String ownerUid;
+
+    @JsonProperty("TodoId")
+    private Long todoId;
+
+    @JsonProperty("Title")
+    private String title;
+
+    @JsonProperty("DueDate")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+}
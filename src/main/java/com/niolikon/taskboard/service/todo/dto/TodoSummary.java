@@ -0,0 +1,25 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TodoSummary {
+    @JsonProperty("Pending")
+    private Long pending;
+
+    @JsonProperty("Completed")
+    private Long completed;
+
+    @JsonProperty("Overdue")
+    private Long overdue;
+
+    @JsonProperty("DueToday")
+    private Long dueToday;
+}
@@ -1,10 +1,11 @@
 package com.niolikon.taskboard.service.todo.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
-import java.util.Date;
+import java.time.LocalDate;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,5 +26,13 @@ public class TodoView {
 
     @JsonProperty("DueDate")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
-    private Date dueDate;
+    private LocalDate dueDate;
+
+    // Sent as the ETag of single-todo responses rather than in the body; list projections leave it unset
+    @JsonIgnore
+    private Long version;
+
+    public TodoView(Long id, String title, String description, Boolean isCompleted, LocalDate dueDate) {
+        this(id, title, description, isCompleted, dueDate, null);
+    }
 }
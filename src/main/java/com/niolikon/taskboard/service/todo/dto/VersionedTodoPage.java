@@ -0,0 +1,14 @@
+package com.niolikon.taskboard.service.todo.dto;
+
+import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import lombok.Value;
+
+/**
+ * A page of an owner's todos with the owner's version, read before the page in the same transaction: the page reflects
+ * at least that version, so tagging the page with it never makes a stale page look current.
+ */
+@Value
+public class VersionedTodoPage {
+    long version;
+    PageResponse<TodoView> page;
+}
@@ -0,0 +1,34 @@
+package com.niolikon.taskboard.service.todo.event;
+
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import lombok.Value;
+
+/**
+ * Published by the Todo service for every write, inside the transaction performing it, and by the archival
+ * for every todo it moves out of the hot table.
+ * {@code previous} is absent on creation, {@code current} is absent on deletion and archival.
+ */
+@Value
+public class TodoEvent {
+    TodoEventType type;
+    String ownerUid;
+    Long todoId;
+    TodoView previous;
+    TodoView current;
+
+    public static TodoEvent created(String ownerUid, TodoView current) {
+        return new TodoEvent(TodoEventType.CREATED, ownerUid, current.getId(), null, current);
+    }
+
+    public static TodoEvent updated(String ownerUid, TodoView previous, TodoView current) {
+        return new TodoEvent(TodoEventType.UPDATED, ownerUid, current.getId(), previous, current);
+    }
+
+    public static TodoEvent deleted(String ownerUid, TodoView previous) {
+        return new TodoEvent(TodoEventType.DELETED, ownerUid, previous.getId(), previous, null);
+    }
+
+    public static TodoEvent archived(String ownerUid, TodoView previous) {
+        return new TodoEvent(TodoEventType.ARCHIVED, ownerUid, previous.getId(), previous, null);
+    }
+}
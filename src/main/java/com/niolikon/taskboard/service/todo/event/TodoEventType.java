@@ -0,0 +1,8 @@
+package com.niolikon.taskboard.service.todo.event;
+
+public enum TodoEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED
+}
@@ -0,0 +1,70 @@
+package com.niolikon.taskboard.service.todo.export;
+
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV with a header row named after the JSON properties of {@link TodoView}. Due dates use the
+ * {@code yyyy-MM-dd} form of the JSON representation. Titles and descriptions that a spreadsheet would evaluate as a
+ * formula are prefixed with {@code '}, so that opening an export never runs user-supplied formulas.
+ */
+public class TodoCsvExportWriter implements TodoExportWriter {
+    private static final String HEADER = "Id,Title,Description,IsCompleted,DueDate";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public TodoCsvExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeLine(HEADER);
+    }
+
+    @Override
+    public void accept(TodoView todoView) {
+        try {
+            writeLine(String.join(",",
+                    toField(todoView.getId()),
+                    toField(toInertText(todoView.getTitle())),
+                    toField(toInertText(todoView.getDescription())),
+                    toField(todoView.getIsCompleted()),
+                    toField(todoView.getDueDate())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write("\r\n");
+    }
+
+    private static String toInertText(String text) {
+        if (text != null && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            return "'" + text;
+        }
+        return text;
+    }
+
+    private static String toField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\r") || text.contains("\n")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,15 @@
+package com.niolikon.taskboard.service.todo.export;
+
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+
+import java.io.Flushable;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported todos one at a time to an output stream, buffering at most a few rows. A failed write, such as a
+ * client disconnecting mid-export, is thrown as {@link UncheckedIOException} so that it aborts the query feeding
+ * the writer.
+ */
+public interface TodoExportWriter extends Consumer<TodoView>, Flushable {
+}
@@ -0,0 +1,44 @@
+package com.niolikon.taskboard.service.todo.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one JSON document per line, serialized as the API serializes {@link TodoView}.
+ */
+public class TodoNdjsonExportWriter implements TodoExportWriter {
+    private final JsonGenerator generator;
+    private final ObjectWriter todoWriter;
+
+    public TodoNdjsonExportWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are separated explicitly, including after the last one
+        this.generator.setRootValueSeparator(null);
+        // The output is flushed as its buffer fills, not once per row
+        this.todoWriter = objectMapper.writerFor(TodoView.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void accept(TodoView todoView) {
+        try {
+            todoWriter.writeValue(generator, todoView);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,7 @@
+package com.niolikon.taskboard.service.todo.feed;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ITodoChangeFeed {
+    SseEmitter subscribe(String ownerUid);
+}
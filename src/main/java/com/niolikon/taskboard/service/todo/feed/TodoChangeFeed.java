@@ -0,0 +1,212 @@
+package com.niolikon.taskboard.service.todo.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pushes the committed writes of each owner to the owner's open event streams. Publishing never blocks the committing
+ * thread: an event is serialized once and offered to the buffer of every subscriber, holding up to
+ * {@code buffer-size} events, which a small pool of sender threads drains in order. A subscriber whose buffer
+ * overflows is evicted and its stream completed; the client reconnects and reloads its lists. Idle streams hold no
+ * thread, and the periodic {@link #heartbeat()} finds the ones whose client went away. Only writes committed through
+ * this instance are pushed.
+ */
+@Component
+public class TodoChangeFeed implements ITodoChangeFeed {
+    private static final Logger log = LoggerFactory.getLogger(TodoChangeFeed.class);
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final ObjectMapper objectMapper;
+    private final Supplier<SseEmitter> emitterFactory;
+    private final Executor sender;
+    private final int bufferSize;
+    private final Map<String, Set<Subscriber>> subscribersByOwner = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TodoChangeFeed(ObjectMapper objectMapper,
+                          @Value("${taskboard.feed.timeout:PT30M}") Duration timeout,
+                          @Value("${taskboard.feed.buffer-size:64}") int bufferSize,
+                          @Value("${taskboard.feed.sender-threads:4}") int senderThreads) {
+        this(objectMapper, () -> new SseEmitter(timeout.toMillis()), senderPool(senderThreads), bufferSize);
+    }
+
+    TodoChangeFeed(ObjectMapper objectMapper, Supplier<SseEmitter> emitterFactory, Executor sender, int bufferSize) {
+        this.objectMapper = objectMapper;
+        this.emitterFactory = emitterFactory;
+        this.sender = sender;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public SseEmitter subscribe(String ownerUid) {
+        SseEmitter emitter = emitterFactory.get();
+        Subscriber subscriber = new Subscriber(ownerUid, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        subscribersByOwner.compute(ownerUid, (owner, subscribers) -> {
+            Set<Subscriber> ownerSubscribers = (subscribers != null) ? subscribers : ConcurrentHashMap.newKeySet();
+            ownerSubscribers.add(subscriber);
+            return ownerSubscribers;
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoEvent(TodoEvent event) {
+        Set<Subscriber> subscribers = subscribersByOwner.get(event.getOwnerUid());
+        if (subscribers == null) {
+            return;
+        }
+        Set<DataWithMediaType> change = SseEmitter.event()
+                .name(event.getType().name().toLowerCase(Locale.ROOT))
+                .data(serialize(toChange(event)))
+                .build();
+        subscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    /**
+     * Offers a comment to every stream: writing it fails for clients that went away, which closes their stream, and
+     * streams whose buffer is full are evicted as on any other event.
+     */
+    public void heartbeat() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment(HEARTBEAT_COMMENT).build();
+        subscribersByOwner.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(heartbeat)));
+    }
+
+    public int subscriberCount() {
+        return subscribersByOwner.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByOwner.computeIfPresent(subscriber.ownerUid, (owner, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private String serialize(TodoChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TodoChange toChange(TodoEvent event) {
+        TodoView current = event.getCurrent();
+        return new TodoChange(event.getTodoId(), (current != null) ? current.getVersion() : null, current);
+    }
+
+    private static ExecutorService senderPool(int senderThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("todo-feed-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(senderThreads, threadFactory);
+    }
+
+    private final class Subscriber {
+        private final String ownerUid;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer;
+        // Set while a sender owns the stream: writes to one client never interleave
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(String ownerUid, SseEmitter emitter) {
+            this.ownerUid = ownerUid;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                // Slow consumer: the sender completes the stream, as it may be blocked writing to it right now
+                log.debug("Evicting a slow change feed subscriber of owner {}", ownerUid);
+                close();
+            }
+            scheduleDrain();
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the stream ends with the server
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream was already completed
+                close();
+            }
+            if (closed) {
+                buffer.clear();
+                emitter.complete();
+                return;
+            }
+            draining.set(false);
+            // An event or an eviction may have come in after the last poll
+            if (closed || !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
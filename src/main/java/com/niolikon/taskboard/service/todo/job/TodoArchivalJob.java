@@ -0,0 +1,65 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.service.TodoArchivalService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically moves todos completed more than {@code retention-days} ago into the archive, in batches of
+ * {@code batch-size} with a {@code pause} between batches, so that the hot table stays small without starving
+ * regular writes of locks and I/O.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.archival", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoArchivalJob {
+    private static final Logger log = LoggerFactory.getLogger(TodoArchivalJob.class);
+
+    private final TodoArchivalService todoArchivalService;
+    private final Clock clock;
+    private final int retentionDays;
+    private final int batchSize;
+    private final Duration pause;
+
+    public TodoArchivalJob(TodoArchivalService todoArchivalService, Clock clock,
+                           @Value("${taskboard.archival.retention-days:30}") int retentionDays,
+                           @Value("${taskboard.archival.batch-size:1000}") int batchSize,
+                           @Value("${taskboard.archival.pause:PT0.2S}") Duration pause) {
+        this.todoArchivalService = todoArchivalService;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.archival.interval:PT1H}",
+            fixedDelayString = "${taskboard.archival.interval:PT1H}")
+    public void archive() {
+        // A fixed cutoff per run: todos completing meanwhile wait for the next run
+        Instant cutoff = clock.instant().minus(Duration.ofDays(retentionDays));
+        int archivedTodos = 0;
+        int batchTodos;
+        do {
+            batchTodos = todoArchivalService.archiveCompletedBefore(cutoff, batchSize);
+            archivedTodos += batchTodos;
+        } while (batchTodos == batchSize && pauseBetweenBatches());
+        log.info("Archived {} todos completed before {}", archivedTodos, cutoff);
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.feed.TodoChangeFeed;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends a heartbeat on every open change feed stream each {@code heartbeat}, so that streams of clients that went
+ * away are closed, and proxies do not time out the idle ones.
+ */
+@Component
+public class TodoChangeFeedHeartbeatJob {
+    private final TodoChangeFeed todoChangeFeed;
+
+    public TodoChangeFeedHeartbeatJob(TodoChangeFeed todoChangeFeed) {
+        this.todoChangeFeed = todoChangeFeed;
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.feed.heartbeat:PT30S}",
+            fixedRateString = "${taskboard.feed.heartbeat:PT30S}")
+    public void heartbeat() {
+        todoChangeFeed.heartbeat();
+    }
+}
@@ -0,0 +1,57 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.TodoCounterRepository;
+import com.niolikon.taskboard.service.todo.service.TodoCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically recomputes every owner's counters from its rows, repairing drift left by writes that bypassed
+ * {@link TodoCounterService} (manual SQL, restores). Each owner is reconciled in its own short transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.counters.reconciliation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoCounterReconciliationJob {
+    private static final Logger log = LoggerFactory.getLogger(TodoCounterReconciliationJob.class);
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoCounterService todoCounterService;
+    private final int batchSize;
+
+    public TodoCounterReconciliationJob(TodoCounterRepository todoCounterRepository,
+                                        TodoCounterService todoCounterService,
+                                        @Value("${taskboard.counters.reconciliation.batch-size:500}") int batchSize) {
+        this.todoCounterRepository = todoCounterRepository;
+        this.todoCounterService = todoCounterService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.counters.reconciliation.interval:PT6H}",
+            fixedDelayString = "${taskboard.counters.reconciliation.interval:PT6H}")
+    public void reconcile() {
+        int reconciledOwners = 0;
+        int repairedOwners = 0;
+        String after = "";
+        List<String> ownerUids;
+        do {
+            ownerUids = todoCounterRepository.findOwnerUidsAfter(after, batchSize);
+            for (String ownerUid : ownerUids) {
+                if (todoCounterService.reconcile(ownerUid)) {
+                    repairedOwners++;
+                    log.warn("Repaired drifted todo counters of owner {}", ownerUid);
+                }
+                reconciledOwners++;
+            }
+            if (!ownerUids.isEmpty()) {
+                after = ownerUids.get(ownerUids.size() - 1);
+            }
+        } while (ownerUids.size() == batchSize);
+        log.info("Reconciled todo counters of {} owners, {} repaired", reconciledOwners, repairedOwners);
+    }
+}
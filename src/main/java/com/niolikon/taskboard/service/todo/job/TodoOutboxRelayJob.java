@@ -0,0 +1,33 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.outbox.TodoOutboxRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the outbox every {@code poll-interval}, in batches of {@code batch-size}. A failing batch ends the run and
+ * is retried on the next one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoOutboxRelayJob {
+    private final TodoOutboxRelay todoOutboxRelay;
+    private final int batchSize;
+
+    public TodoOutboxRelayJob(TodoOutboxRelay todoOutboxRelay,
+                              @Value("${taskboard.outbox.batch-size:500}") int batchSize) {
+        this.todoOutboxRelay = todoOutboxRelay;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${taskboard.outbox.poll-interval:PT1S}")
+    public void relay() {
+        int batchMessages;
+        do {
+            batchMessages = todoOutboxRelay.relayBatch(batchSize);
+        } while (batchMessages == batchSize);
+    }
+}
@@ -0,0 +1,38 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.reminder.TodoReminderDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Drives the {@link TodoReminderDispatcher}: every {@code load-interval} the reminders of the next {@code load-ahead}
+ * are loaded, and every {@code tick} the due ones are fired. Loading further ahead than the interval keeps a slow
+ * load from delaying the reminders at the edge of the window.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.reminders", name = "enabled", havingValue = "true")
+public class TodoReminderJob {
+    private final TodoReminderDispatcher todoReminderDispatcher;
+    private final Duration loadAhead;
+
+    public TodoReminderJob(TodoReminderDispatcher todoReminderDispatcher,
+                           @Value("${taskboard.reminders.load-ahead:PT2H}") Duration loadAhead) {
+        this.todoReminderDispatcher = todoReminderDispatcher;
+        this.loadAhead = loadAhead;
+    }
+
+    @Scheduled(fixedDelayString = "${taskboard.reminders.load-interval:PT1H}")
+    public void load() {
+        todoReminderDispatcher.loadAhead(loadAhead);
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.reminders.tick:PT1S}",
+            fixedRateString = "${taskboard.reminders.tick:PT1S}")
+    public void dispatch() {
+        todoReminderDispatcher.dispatchDue();
+    }
+}
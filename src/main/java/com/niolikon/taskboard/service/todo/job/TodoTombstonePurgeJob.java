@@ -0,0 +1,39 @@
+package com.niolikon.taskboard.service.todo.job;
+
+import com.niolikon.taskboard.service.todo.service.TodoSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically purges the tombstones older than the delta sync retention, in batches of {@code batch-size}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.sync.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoTombstonePurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(TodoTombstonePurgeJob.class);
+
+    private final TodoSyncService todoSyncService;
+    private final int batchSize;
+
+    public TodoTombstonePurgeJob(TodoSyncService todoSyncService,
+                                 @Value("${taskboard.sync.purge.batch-size:1000}") int batchSize) {
+        this.todoSyncService = todoSyncService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskboard.sync.purge.interval:PT6H}",
+            fixedDelayString = "${taskboard.sync.purge.interval:PT6H}")
+    public void purge() {
+        int purgedTombstones = 0;
+        int batchTombstones;
+        do {
+            batchTombstones = todoSyncService.purgeTombstones(batchSize);
+            purgedTombstones += batchTombstones;
+        } while (batchTombstones == batchSize);
+        log.info("Purged {} todo tombstones", purgedTombstones);
+    }
+}
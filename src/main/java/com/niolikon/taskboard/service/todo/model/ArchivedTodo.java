@@ -0,0 +1,36 @@
+package com.niolikon.taskboard.service.todo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+@Entity
+@Table(name = "todos_archive")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ArchivedTodo {
+    @Id
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private Boolean isCompleted;
+
+    private LocalDate dueDate;
+
+    private String ownerUid;
+
+    private Date completedAt;
+
+    private Date archivedAt;
+}
@@ -2,7 +2,9 @@ package com.niolikon.taskboard.service.todo.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 
+import java.time.LocalDate;
 import java.util.Date;
 
 @Entity
@@ -15,7 +17,8 @@ import java.util.Date;
 @EqualsAndHashCode
 public class Todo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     @Setter(AccessLevel.NONE)
     private Long id;
@@ -34,12 +37,39 @@ public class Todo {
 
     @EqualsAndHashCode.Include
     @Setter
-    private Date dueDate;
+    private LocalDate dueDate;
 
+    // Todos are hash-partitioned by owner on PostgreSQL: entity updates and deletes also filter on it
+    @PartitionKey
     @EqualsAndHashCode.Include
     @Setter
     private String ownerUid;
 
+    // Set when the todo is first stored as completed; ages completed todos for archival
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Date completedAt;
+
+    // Stamped on the database clock by every insert and update, and only read back by delta sync
+    @Column(insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Date updatedAt;
+
+    // Bumped by every update, including the native and bulk statements; clients send it back as If-Match
+    @Version
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void stampCompletion() {
+        if (Boolean.TRUE.equals(isCompleted) && completedAt == null) {
+            completedAt = new Date();
+        }
+    }
+
     public void updateFrom(Todo other) {
         if (other == null) {
             return;
@@ -57,4 +87,12 @@ public class Todo {
             this.dueDate = other.dueDate;
         }
     }
+
+    // The native and bulk updates bump the version along with the fields, so replaying them on a detached row must too
+    public void replayUpdate(Todo changes) {
+        updateFrom(changes);
+        if (version != null) {
+            version++;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.niolikon.taskboard.service.todo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "todo_counters")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class TodoCounter {
+    @Id
+    @Setter(AccessLevel.NONE)
+    private String ownerUid;
+
+    @Setter
+    private Long pendingCount;
+
+    @Setter
+    private Long completedCount;
+
+    // Bumped by every write of the owner's todos, including those leaving the counts unchanged
+    @Setter
+    private Long version;
+
+    public Long getTotalCount() {
+        return pendingCount + completedCount;
+    }
+}
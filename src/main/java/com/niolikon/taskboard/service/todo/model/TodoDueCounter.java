@@ -0,0 +1,39 @@
+package com.niolikon.taskboard.service.todo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "todo_due_counters")
+@IdClass(TodoDueCounter.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class TodoDueCounter {
+    @Id
+    @Setter(AccessLevel.NONE)
+    private String ownerUid;
+
+    @Id
+    @Setter(AccessLevel.NONE)
+    private LocalDate dueDate;
+
+    @Setter
+    private Long pendingCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String ownerUid;
+        private LocalDate dueDate;
+    }
+}
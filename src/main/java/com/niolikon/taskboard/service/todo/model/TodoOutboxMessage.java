@@ -0,0 +1,35 @@
+package com.niolikon.taskboard.service.todo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+@Entity
+@Table(name = "todo_outbox")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class TodoOutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_outbox_seq")
+    @SequenceGenerator(name = "todo_outbox_seq", sequenceName = "todo_outbox_seq", allocationSize = 50)
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Long id;
+
+    // The name of the TodoEventType
+    private String eventType;
+
+    private String ownerUid;
+
+    private Long todoId;
+
+    // The TodoEvent as JSON
+    private String payload;
+
+    private Date createdAt;
+}
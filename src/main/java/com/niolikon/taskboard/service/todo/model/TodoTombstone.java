@@ -0,0 +1,38 @@
+package com.niolikon.taskboard.service.todo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+@Entity
+@Table(name = "todo_tombstones")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class TodoTombstone implements Persistable<Long> {
+    @Id
+    @Setter(AccessLevel.NONE)
+    private Long todoId;
+
+    private String ownerUid;
+
+    // Stamped on the database clock, as todos.updated_at
+    @Column(insertable = false, updatable = false)
+    private Date removedAt;
+
+    @Override
+    public Long getId() {
+        return todoId;
+    }
+
+    // A todo is removed once: saving persists without the lookup a merge would issue, so inserts are batched
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
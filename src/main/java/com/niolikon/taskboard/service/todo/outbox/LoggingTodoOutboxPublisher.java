@@ -0,0 +1,17 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LoggingTodoOutboxPublisher implements TodoOutboxPublisher {
+    private static final Logger log = LoggerFactory.getLogger(LoggingTodoOutboxPublisher.class);
+
+    @Override
+    public void publish(List<TodoOutboxMessage> messages) {
+        messages.forEach(message -> log.debug("Todo {} of owner {} {}: {}",
+                message.getTodoId(), message.getOwnerUid(), message.getEventType(), message.getPayload()));
+    }
+}
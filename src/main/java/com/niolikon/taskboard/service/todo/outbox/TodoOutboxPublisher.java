@@ -0,0 +1,15 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+
+import java.util.List;
+
+/**
+ * Hands outbox messages to downstream systems. Called by {@link TodoOutboxRelay} with a batch in id order, inside
+ * the transaction holding it: when publishing fails the whole batch stays in the outbox and is published again, so
+ * downstream systems must tolerate duplicates, e.g. by message id. Id order is not commit order, so downstream systems
+ * order the messages of a todo by the {@code Version} in their payload.
+ */
+public interface TodoOutboxPublisher {
+    void publish(List<TodoOutboxMessage> messages);
+}
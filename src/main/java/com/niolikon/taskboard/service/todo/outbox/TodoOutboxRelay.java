@@ -0,0 +1,76 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.niolikon.taskboard.service.todo.TodoOutboxRepository;
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes the outbox in batches of its oldest messages. A batch is locked with {@code for update skip locked},
+ * handed to the {@link TodoOutboxPublisher} and deleted in one transaction: relays on several instances drain
+ * disjoint batches, and a batch whose publishing fails stays in the outbox for the next attempt, so delivery is at
+ * least once. Messages are relayed in id order, which is not commit order: ids come from a pooled sequence, so each
+ * instance draws from its own block of ids, and transactions may commit in any order of their ids. Concurrent relays
+ * may also publish their batches out of order. Consumers order the messages of a todo by its {@code Version}.
+ * <p>
+ * Meters: {@code taskboard.outbox.published} counts the published messages, {@code taskboard.outbox.failed.batches}
+ * the batches left for a retry, and {@code taskboard.outbox.lag} times each message from its write to its publishing.
+ */
+@Component
+public class TodoOutboxRelay {
+    private final TodoOutboxRepository todoOutboxRepository;
+    private final TodoOutboxPublisher todoOutboxPublisher;
+    private final Clock clock;
+    private final Counter publishedMessages;
+    private final Counter failedBatches;
+    private final Timer lag;
+
+    public TodoOutboxRelay(TodoOutboxRepository todoOutboxRepository, TodoOutboxPublisher todoOutboxPublisher,
+                           Clock clock, MeterRegistry meterRegistry) {
+        this.todoOutboxRepository = todoOutboxRepository;
+        this.todoOutboxPublisher = todoOutboxPublisher;
+        this.clock = clock;
+        this.publishedMessages = Counter.builder("taskboard.outbox.published")
+                .description("Outbox messages published")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("taskboard.outbox.failed.batches")
+                .description("Outbox batches whose publishing failed")
+                .register(meterRegistry);
+        this.lag = Timer.builder("taskboard.outbox.lag")
+                .description("Time from a todo write to the publishing of its outbox message")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes and removes up to {@code batchSize} of the oldest messages not locked by another relay.
+     *
+     * @return the number of published messages; less than {@code batchSize} once the outbox is drained
+     */
+    @Transactional
+    public int relayBatch(int batchSize) {
+        List<TodoOutboxMessage> messages = todoOutboxRepository.findNextBatchForUpdate(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        try {
+            todoOutboxPublisher.publish(messages);
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            throw e;
+        }
+        todoOutboxRepository.deleteAllByIdInBatch(messages.stream().map(TodoOutboxMessage::getId).toList());
+
+        Instant publishedAt = clock.instant();
+        messages.forEach(message -> lag.record(Duration.between(message.getCreatedAt().toInstant(), publishedAt)));
+        publishedMessages.increment(messages.size());
+        return messages.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.niolikon.taskboard.service.todo.TodoOutboxRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+
+/**
+ * Adds every {@link TodoEvent} to the outbox inside the transaction publishing it, so that the messages relayed
+ * downstream are exactly those of the committed writes. The inserts are flushed with the write, in JDBC batches.
+ * The payload is the event as JSON, with the {@code Version} of each todo it carries.
+ */
+@Component
+public class TodoOutboxWriter {
+    private static final String PREVIOUS_FIELD = "previous";
+    private static final String CURRENT_FIELD = "current";
+    private static final String VERSION_FIELD = "Version";
+
+    private final TodoOutboxRepository todoOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public TodoOutboxWriter(TodoOutboxRepository todoOutboxRepository, ObjectMapper objectMapper, Clock clock) {
+        this.todoOutboxRepository = todoOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @EventListener
+    public void onTodoEvent(TodoEvent event) {
+        todoOutboxRepository.save(TodoOutboxMessage.builder()
+                .eventType(event.getType().name())
+                .ownerUid(event.getOwnerUid())
+                .todoId(event.getTodoId())
+                .payload(toJson(event))
+                .createdAt(Date.from(clock.instant()))
+                .build());
+    }
+
+    private String toJson(TodoEvent event) {
+        ObjectNode payload = objectMapper.valueToTree(event);
+        // The API sends a todo's version as its ETag, so TodoView leaves it out of JSON: consumers need it in the body
+        putVersion(payload, PREVIOUS_FIELD, event.getPrevious());
+        putVersion(payload, CURRENT_FIELD, event.getCurrent());
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize todo event", e);
+        }
+    }
+
+    private static void putVersion(ObjectNode payload, String field, TodoView todo) {
+        if (todo != null && todo.getVersion() != null && payload.get(field) instanceof ObjectNode todoNode) {
+            todoNode.put(VERSION_FIELD, todo.getVersion());
+        }
+    }
+}
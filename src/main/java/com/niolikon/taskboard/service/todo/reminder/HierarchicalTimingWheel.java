@@ -0,0 +1,178 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck) over ticks of a fixed duration. Level {@code l} has
+ * {@value #WHEEL_SIZE} slots, each spanning {@code WHEEL_SIZE^l} ticks: an entry sits at the highest level where its
+ * deadline tick differs from the current one and moves one level down when the wheel reaches its slot, so it is
+ * touched at most once per level. Scheduling and cancelling are O(1); advancing costs O(1) per tick plus the entries
+ * it cascades or expires. Entries never expire before their deadline, and at most one tick after it.
+ * <p>
+ * Not thread-safe: callers must guard every method.
+ */
+public final class HierarchicalTimingWheel<T> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = (Long.SIZE + WHEEL_BITS - 1) / WHEEL_BITS;
+
+    private final long tickMillis;
+    // Slots are circular lists around a sentinel, created the first time a level is used
+    private final Timeout<T>[][] levels;
+    // The next tick to expire: every earlier tick has been processed
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(Duration tick, long startMillis) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        this.tickMillis = tick.toMillis();
+        this.levels = (Timeout<T>[][]) new Timeout<?>[LEVELS][];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules {@code value} to expire once the wheel is advanced to {@code deadlineMillis}; a deadline already passed
+     * expires with the next tick.
+     */
+    public Timeout<T> schedule(T value, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Timeout<T> timeout = new Timeout<>(value, Math.max(deadlineTick, currentTick));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Removes a pending timeout, returning {@code false} if it already expired or was cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Processes every tick up to {@code nowMillis}, handing each expired value to {@code expired} in deadline order.
+     */
+    public void advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick <= targetTick) {
+            if (size == 0) {
+                // Nothing to cascade or expire: skip the idle ticks
+                currentTick = targetTick + 1;
+                return;
+            }
+            long tick = currentTick;
+            int topLevel = Math.min(Long.numberOfTrailingZeros(tick) / WHEEL_BITS, LEVELS - 1);
+            for (int level = topLevel; level >= 1; level--) {
+                cascade(level, slotOf(tick, level));
+            }
+            expire(slotOf(tick, 0), expired);
+            currentTick = tick + 1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<T>[] slots = levels[level];
+        if (slots == null) {
+            return;
+        }
+        Timeout<T> sentinel = slots[slot];
+        while (sentinel.next != sentinel) {
+            Timeout<T> timeout = sentinel.next;
+            timeout.unlink();
+            place(timeout);
+        }
+    }
+
+    private void expire(int slot, Consumer<T> expired) {
+        Timeout<T>[] slots = levels[0];
+        if (slots == null) {
+            return;
+        }
+        Timeout<T> sentinel = slots[slot];
+        while (sentinel.next != sentinel) {
+            Timeout<T> timeout = sentinel.next;
+            timeout.unlink();
+            size--;
+            expired.accept(timeout.value);
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long differingBits = timeout.deadlineTick ^ currentTick;
+        int level = (differingBits == 0) ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(differingBits)) / WHEEL_BITS;
+        slotsOf(level)[slotOf(timeout.deadlineTick, level)].append(timeout);
+    }
+
+    private Timeout<T>[] slotsOf(int level) {
+        Timeout<T>[] slots = levels[level];
+        if (slots == null) {
+            @SuppressWarnings("unchecked")
+            Timeout<T>[] created = (Timeout<T>[]) new Timeout<?>[WHEEL_SIZE];
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                created[slot] = Timeout.sentinel();
+            }
+            levels[level] = created;
+            slots = created;
+        }
+        return slots;
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+    }
+
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static <T> Timeout<T> sentinel() {
+            Timeout<T> sentinel = new Timeout<>(null, 0L);
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isPending() {
+            return next != null;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.previous = previous;
+            timeout.next = this;
+            previous.next = timeout;
+            previous = timeout;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+}
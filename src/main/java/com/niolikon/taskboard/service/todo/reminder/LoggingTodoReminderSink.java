@@ -0,0 +1,14 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingTodoReminderSink implements TodoReminderSink {
+    private static final Logger log = LoggerFactory.getLogger(LoggingTodoReminderSink.class);
+
+    @Override
+    public void remind(TodoReminder reminder) {
+        log.info("Todo {} of owner {} is due on {}", reminder.getTodoId(), reminder.getOwnerUid(), reminder.getDueDate());
+    }
+}
@@ -0,0 +1,194 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fires a reminder {@code lead-time} before the start of each pending todo's due date. Only the reminders falling
+ * before the loaded horizon are held, in a {@link HierarchicalTimingWheel}: {@link #loadAhead(Duration)} extends the
+ * horizon reading the todos due in the new window, and committed writes keep the held reminders in sync through
+ * their {@link TodoEvent}. State is local to this instance, so reminders are off by default and must be
+ * enabled on a single instance.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskboard.reminders", name = "enabled", havingValue = "true")
+public class TodoReminderDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(TodoReminderDispatcher.class);
+
+    private final TodoRepository todoRepository;
+    private final TodoReminderSink todoReminderSink;
+    private final Clock clock;
+    private final Duration leadTime;
+    private final int batchSize;
+
+    private final Object lock = new Object();
+    private final HierarchicalTimingWheel<TodoReminder> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<TodoReminder>> timeoutsByTodoId = new HashMap<>();
+    // Reminders up to the horizon are in the wheel; null until the first window is loaded
+    private Instant horizon;
+    // Todos written while a window is being read: their rows may be stale, their events already applied
+    private Set<Long> writtenWhileLoading;
+
+    public TodoReminderDispatcher(TodoRepository todoRepository, TodoReminderSink todoReminderSink, Clock clock,
+                                  @Value("${taskboard.reminders.lead-time:PT24H}") Duration leadTime,
+                                  @Value("${taskboard.reminders.tick:PT1S}") Duration tick,
+                                  @Value("${taskboard.reminders.batch-size:1000}") int batchSize) {
+        this.todoRepository = todoRepository;
+        this.todoReminderSink = todoReminderSink;
+        this.clock = clock;
+        this.leadTime = leadTime;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tick, clock.millis());
+    }
+
+    /**
+     * Moves the horizon to {@code ahead} from now, scheduling the reminders of the todos due in the new window.
+     * On the first load, reminders already past are not fired again.
+     */
+    public int loadAhead(Duration ahead) {
+        Instant now = clock.instant();
+        Instant newHorizon = now.plus(ahead);
+        Instant previousHorizon;
+        synchronized (lock) {
+            previousHorizon = horizon;
+            if (previousHorizon != null && !newHorizon.isAfter(previousHorizon)) {
+                return 0;
+            }
+            // Writes from now on schedule their own reminders up to the new horizon
+            horizon = newHorizon;
+            writtenWhileLoading = new HashSet<>();
+        }
+        int loadedReminders = 0;
+        try {
+            Instant windowStart = (previousHorizon == null) ? now : previousHorizon;
+            LocalDate lastDueDate = LocalDate.ofInstant(newHorizon.plus(leadTime), clock.getZone());
+            for (LocalDate dueDate = LocalDate.ofInstant(windowStart.plus(leadTime), clock.getZone());
+                 !dueDate.isAfter(lastDueDate); dueDate = dueDate.plusDays(1)) {
+                Instant remindAt = remindAt(dueDate);
+                boolean inWindow = (previousHorizon == null) ? !remindAt.isBefore(now) : remindAt.isAfter(previousHorizon);
+                if (inWindow && !remindAt.isAfter(newHorizon)) {
+                    loadedReminders += loadDueOn(dueDate, remindAt);
+                }
+            }
+        } finally {
+            synchronized (lock) {
+                writtenWhileLoading = null;
+            }
+        }
+        log.info("Loaded {} todo reminders up to {}", loadedReminders, newHorizon);
+        return loadedReminders;
+    }
+
+    private int loadDueOn(LocalDate dueDate, Instant remindAt) {
+        int loadedReminders = 0;
+        Long after = 0L;
+        List<TodoReminder> batch;
+        do {
+            batch = todoRepository.findPendingRemindersByDueDate(dueDate, after, Limit.of(batchSize));
+            synchronized (lock) {
+                for (TodoReminder reminder : batch) {
+                    Long todoId = reminder.getTodoId();
+                    if (!writtenWhileLoading.contains(todoId) && !timeoutsByTodoId.containsKey(todoId)) {
+                        timeoutsByTodoId.put(todoId, wheel.schedule(reminder, remindAt.toEpochMilli()));
+                        loadedReminders++;
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).getTodoId();
+            }
+        } while (batch.size() == batchSize);
+        return loadedReminders;
+    }
+
+    /**
+     * Fires the reminders that came due, handing them to the sink outside the lock so writes are never held up
+     * by delivery.
+     */
+    public int dispatchDue() {
+        List<TodoReminder> dueReminders = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advanceTo(clock.millis(), reminder -> {
+                timeoutsByTodoId.remove(reminder.getTodoId());
+                dueReminders.add(reminder);
+            });
+        }
+        for (TodoReminder reminder : dueReminders) {
+            try {
+                todoReminderSink.remind(reminder);
+            } catch (RuntimeException e) {
+                log.warn("Dropped reminder for todo {}", reminder.getTodoId(), e);
+            }
+        }
+        return dueReminders.size();
+    }
+
+    public int scheduledReminders() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoEvent(TodoEvent event) {
+        Long todoId = event.getTodoId();
+        TodoView previous = event.getPrevious();
+        TodoView current = event.getCurrent();
+        synchronized (lock) {
+            if (writtenWhileLoading != null) {
+                writtenWhileLoading.add(todoId);
+            }
+            HierarchicalTimingWheel.Timeout<TodoReminder> timeout = timeoutsByTodoId.remove(todoId);
+            boolean wasScheduled = timeout != null && wheel.cancel(timeout);
+            if (horizon == null || current == null || Boolean.TRUE.equals(current.getIsCompleted())
+                    || current.getDueDate() == null) {
+                return;
+            }
+            Instant remindAt = remindAt(current.getDueDate());
+            if (remindAt.isAfter(horizon)) {
+                // Loaded with its window
+                return;
+            }
+            // A reminder already past fires at once only if this write made the todo due, so edits of a todo
+            // already reminded of stay silent
+            if (remindAt.isBefore(clock.instant()) && !wasScheduled && !becameDue(previous, current)) {
+                return;
+            }
+            TodoReminder reminder = new TodoReminder(event.getOwnerUid(), todoId, current.getTitle(), current.getDueDate());
+            timeoutsByTodoId.put(todoId, wheel.schedule(reminder, remindAt.toEpochMilli()));
+        }
+    }
+
+    private boolean becameDue(TodoView previous, TodoView current) {
+        boolean notYetDue = !current.getDueDate().isBefore(LocalDate.now(clock));
+        boolean newlyPending = previous == null || Boolean.TRUE.equals(previous.getIsCompleted())
+                || !Objects.equals(previous.getDueDate(), current.getDueDate());
+        return notYetDue && newlyPending;
+    }
+
+    private Instant remindAt(LocalDate dueDate) {
+        return dueDate.atStartOfDay(clock.getZone()).toInstant().minus(leadTime);
+    }
+}
@@ -0,0 +1,11 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+
+/**
+ * Delivers the reminders fired by {@link TodoReminderDispatcher}. Called from the dispatching thread, one reminder
+ * at a time: a slow sink delays the reminders due after it.
+ */
+public interface TodoReminderSink {
+    void remind(TodoReminder reminder);
+}
@@ -0,0 +1,26 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Posts each reminder as JSON to a webhook. Delivery is attempted once: failures are left to the dispatcher,
+ * which logs and drops the reminder.
+ */
+public class WebhookTodoReminderSink implements TodoReminderSink {
+    private final RestClient restClient;
+
+    public WebhookTodoReminderSink(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public void remind(TodoReminder reminder) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reminder)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
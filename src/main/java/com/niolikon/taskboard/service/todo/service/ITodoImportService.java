@@ -0,0 +1,10 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.dto.TodoImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ITodoImportService {
+    TodoImportReport importAll(String ownerUid, InputStream ndjson) throws IOException;
+}
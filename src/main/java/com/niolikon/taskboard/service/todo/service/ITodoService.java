@@ -1,25 +1,74 @@
 package com.niolikon.taskboard.service.todo.service;
 
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.data.dto.CursorPageResponse;
+import com.niolikon.taskboard.service.data.dto.SliceResponse;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkOutcome;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ITodoService {
     TodoView create(String ownerUid, TodoRequest todoRequest);
 
-    PageResponse<TodoView> readAll(String ownerUid, Pageable pageable);
+    List<TodoView> createAll(String ownerUid, List<TodoRequest> todoRequests);
+
+    VersionedTodoPage readAll(String ownerUid, Pageable pageable);
+
+    SliceResponse<TodoView> readAllWithoutTotal(String ownerUid, Pageable pageable);
+
+    PageResponse<TodoView> readAllWithEstimatedTotal(String ownerUid, Pageable pageable);
+
+    CursorPageResponse<TodoView> readAll(String ownerUid, String after, Pageable pageable);
 
     TodoView read(String ownerUid, Long id);
 
-    TodoView update(String ownerUid, Long id, TodoRequest todoRequest);
+    TodoSummary readSummary(String ownerUid);
+
+    long readVersion(String ownerUid);
+
+    TodoView update(String ownerUid, Long id, TodoRequest todoRequest, Long expectedVersion);
+
+    TodoView patch(String ownerUid, Long id, TodoPatch todoPatch, Long expectedVersion);
+
+    List<TodoBulkOutcome> patchAll(String ownerUid, TodoBulkPatch todoBulkPatch);
+
+    VersionedTodoPage readAllPending(String ownerUid, Pageable pageable);
+
+    SliceResponse<TodoView> readAllPendingWithoutTotal(String ownerUid, Pageable pageable);
+
+    PageResponse<TodoView> readAllPendingWithEstimatedTotal(String ownerUid, Pageable pageable);
+
+    CursorPageResponse<TodoView> readAllPending(String ownerUid, String after, Pageable pageable);
+
+    VersionedTodoPage readAllCompleted(String ownerUid, Pageable pageable);
+
+    SliceResponse<TodoView> readAllCompletedWithoutTotal(String ownerUid, Pageable pageable);
+
+    PageResponse<TodoView> readAllCompletedWithEstimatedTotal(String ownerUid, Pageable pageable);
+
+    CursorPageResponse<TodoView> readAllCompleted(String ownerUid, String after, Pageable pageable);
+
+    PageResponse<TodoView> readAllOverdue(String ownerUid, Pageable pageable);
+
+    PageResponse<TodoView> readAllDue(String ownerUid, LocalDate from, LocalDate to, Pageable pageable);
+
+    PageResponse<TodoView> readAllArchived(String ownerUid, Pageable pageable);
 
-    TodoView patch(String ownerUid, Long id, TodoPatch todoPatch);
+    PageResponse<TodoView> search(String ownerUid, String query, Pageable pageable);
 
-    PageResponse<TodoView> readAllPending(String ownerUid, Pageable pageable);
+    void exportAll(String ownerUid, Consumer<TodoView> sink);
 
-    PageResponse<TodoView> readAllCompleted(String ownerUid, Pageable pageable);
+    void delete(String ownerUid, Long id, Long expectedVersion);
 
-    void delete(String ownerUid, Long id);
+    List<TodoBulkOutcome> deleteAll(String ownerUid, TodoBulkDelete todoBulkDelete);
 }
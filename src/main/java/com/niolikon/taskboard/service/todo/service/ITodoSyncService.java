@@ -0,0 +1,7 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+
+public interface ITodoSyncService {
+    TodoChangePage readChanges(String ownerUid, String since, int size);
+}
@@ -0,0 +1,56 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
+import com.niolikon.taskboard.service.todo.TodoMapper;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves completed todos into the archive table, one bounded batch per transaction. Each archived todo publishes
+ * a {@link TodoEvent}, so counters and caches follow the hot table as they do for deletions.
+ */
+@Service
+public class TodoArchivalService {
+
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final TodoMapper todoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoArchivalService(TodoRepository todoRepository, TodoArchiveRepository todoArchiveRepository,
+                               TodoMapper todoMapper, ApplicationEventPublisher eventPublisher) {
+        this.todoRepository = todoRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.todoMapper = todoMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Archives up to {@code batchSize} of the todos completed before {@code cutoff}, oldest first.
+     *
+     * @return the number of archived todos; less than {@code batchSize} once no more are eligible
+     */
+    @Transactional
+    public int archiveCompletedBefore(Instant cutoff, int batchSize) {
+        List<Todo> todos = todoRepository.findArchivableForUpdate(Date.from(cutoff), batchSize);
+        if (todos.isEmpty()) {
+            return 0;
+        }
+        Set<String> ownerUids = todos.stream().map(Todo::getOwnerUid).collect(Collectors.toSet());
+        List<Long> ids = todos.stream().map(Todo::getId).toList();
+        todoArchiveRepository.copyFromTodos(ownerUids, ids);
+        todoArchiveRepository.deleteFromTodos(ownerUids, ids);
+        todos.forEach(todo -> eventPublisher.publishEvent(TodoEvent.archived(todo.getOwnerUid(), todoMapper.toTodoView(todo))));
+        return todos.size();
+    }
+}
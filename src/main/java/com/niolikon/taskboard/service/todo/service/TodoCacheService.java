@@ -0,0 +1,60 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Caches todos by id for single-todo reads. Misses are loaded by id and owner, so on a partitioned
+ * table the lookup touches only the owner's partition; entries are keyed by id alone, so callers must
+ * still verify the owner of a cached todo. Every write publishes a {@link TodoEvent}, which evicts the entry once the
+ * write is committed; a read racing with that commit may still cache the old row until the entry expires.
+ * Entries are immutable {@link CachedTodo} copies, shared by every thread reading them, never the loaded entity.
+ */
+@Service
+public class TodoCacheService {
+    public static final String TODOS_CACHE = "todos";
+
+    private final TodoRepository todoRepository;
+
+    public TodoCacheService(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    @Cacheable(cacheNames = TODOS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<CachedTodo> findByIdAndOwnerUid(Long id, String ownerUid) {
+        return todoRepository.findByIdAndOwnerUid(id, ownerUid).map(CachedTodo::of);
+    }
+
+    @CacheEvict(cacheNames = TODOS_CACHE, key = "#event.todoId")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoEvent(TodoEvent event) {
+        // Eviction is performed by the cache interceptor
+    }
+
+    /**
+     * A todo as cached: its version is the strong ETag of single-todo responses, so it must be the one loaded.
+     */
+    public record CachedTodo(Long id, String ownerUid, String title, String description, Boolean isCompleted,
+                             LocalDate dueDate, Long version) {
+
+        static CachedTodo of(Todo todo) {
+            return new CachedTodo(todo.getId(), todo.getOwnerUid(), todo.getTitle(), todo.getDescription(),
+                    todo.getIsCompleted(), todo.getDueDate(), todo.getVersion());
+        }
+
+        // A view of its own for every read: TodoView is mutable
+        public TodoView toTodoView() {
+            return new TodoView(id, title, description, isCompleted, dueDate, version);
+        }
+    }
+}
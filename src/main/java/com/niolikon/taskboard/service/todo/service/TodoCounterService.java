@@ -0,0 +1,194 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoCounterRepository;
+import com.niolikon.taskboard.service.todo.TodoDueCounterRepository;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.TodoCounter;
+import com.niolikon.taskboard.service.todo.model.TodoDueCounter;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-owner pending and completed counters, and the pending counters per due day, within the
+ * transaction of each write, so that list totals and the summary can be served without counting rows. Deltas are
+ * summed per owner and applied once before commit, so a batch of writes costs one counter update rather than one
+ * per row. The same update bumps the owner's version, handed to {@link TodoVersionService} once committed.
+ */
+@Service
+public class TodoCounterService {
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoDueCounterRepository todoDueCounterRepository;
+    private final TodoRepository todoRepository;
+    private final TodoVersionService todoVersionService;
+    private final Clock clock;
+
+    public TodoCounterService(TodoCounterRepository todoCounterRepository,
+                              TodoDueCounterRepository todoDueCounterRepository,
+                              TodoRepository todoRepository, TodoVersionService todoVersionService, Clock clock) {
+        this.todoCounterRepository = todoCounterRepository;
+        this.todoDueCounterRepository = todoDueCounterRepository;
+        this.todoRepository = todoRepository;
+        this.todoVersionService = todoVersionService;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TodoCounter> find(String ownerUid) {
+        return todoCounterRepository.findById(ownerUid);
+    }
+
+    @Transactional(readOnly = true)
+    public TodoSummary summarize(String ownerUid) {
+        LocalDate today = LocalDate.now(clock);
+        // Owners without writes since the counters were introduced are counted from their rows
+        return todoCounterRepository.findSummaryByOwnerUid(ownerUid, today)
+                .orElseGet(() -> todoRepository.summarizeByOwnerUid(ownerUid, today));
+    }
+
+    /**
+     * Recomputes the owner's counters from its rows. The owner's counter row is locked first, as every write
+     * does before touching the due counters, so writes committing meanwhile are applied on top of the recount.
+     *
+     * @return whether the stored counters had drifted
+     */
+    @Transactional
+    public boolean reconcile(String ownerUid) {
+        if (todoCounterRepository.lockByOwnerUid(ownerUid).isEmpty()) {
+            return false;
+        }
+        CounterSnapshot before = snapshot(ownerUid);
+        todoCounterRepository.recount(ownerUid);
+        todoDueCounterRepository.deleteByOwnerUid(ownerUid);
+        todoDueCounterRepository.recount(ownerUid);
+        return !before.equals(snapshot(ownerUid));
+    }
+
+    @EventListener
+    public void onTodoEvent(TodoEvent event) {
+        OwnerDeltas deltas = new OwnerDeltas();
+        deltas.add(event.getPrevious(), -1);
+        deltas.add(event.getCurrent(), 1);
+
+        // Writes leaving the counts unchanged still bump the owner's version
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingDeltas().add(event.getOwnerUid(), deltas);
+        } else {
+            apply(event.getOwnerUid(), deltas)
+                    .ifPresent(version -> todoVersionService.recordCommitted(event.getOwnerUid(), version));
+        }
+    }
+
+    private Optional<Long> apply(String ownerUid, OwnerDeltas deltas) {
+        // The owner's counter row is always written first, even with no total delta: it orders concurrent
+        // writers of the same owner and the reconciliation
+        if (todoCounterRepository.increment(ownerUid, deltas.pending, deltas.completed) == 0) {
+            // The seed counts the owner's rows as seen by this transaction, so it already includes these writes.
+            // When a concurrent transaction seeded first, its counts miss these writes and the delta is applied on top.
+            if (todoCounterRepository.seed(ownerUid) == 0) {
+                todoCounterRepository.increment(ownerUid, deltas.pending, deltas.completed);
+            }
+        }
+        deltas.pendingByDueDate.forEach((dueDate, pendingDelta) -> {
+            if (todoDueCounterRepository.increment(ownerUid, dueDate, pendingDelta) > 0) {
+                return;
+            }
+            if (todoDueCounterRepository.seed(ownerUid, dueDate) == 0) {
+                todoDueCounterRepository.increment(ownerUid, dueDate, pendingDelta);
+            }
+        });
+        // The counter row is locked by this transaction: no other write can move the version before commit
+        return todoCounterRepository.findVersionByOwnerUid(ownerUid);
+    }
+
+    private CounterSnapshot snapshot(String ownerUid) {
+        TodoCounter counter = todoCounterRepository.findById(ownerUid).orElseThrow();
+        Map<LocalDate, Long> pendingByDueDate = todoDueCounterRepository.findByOwnerUid(ownerUid).stream()
+                .filter(dueCounter -> dueCounter.getPendingCount() != 0)
+                .collect(Collectors.toMap(TodoDueCounter::getDueDate, TodoDueCounter::getPendingCount));
+        return new CounterSnapshot(counter.getPendingCount(), counter.getCompletedCount(), pendingByDueDate);
+    }
+
+    private PendingDeltas pendingDeltas() {
+        PendingDeltas deltas = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            deltas = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(deltas);
+        }
+        return deltas;
+    }
+
+    private record CounterSnapshot(Long pending, Long completed, Map<LocalDate, Long> pendingByDueDate) {}
+
+    private class OwnerDeltas {
+        private long pending;
+        private long completed;
+        // Sorted, so that concurrent writers lock the due counters of an owner in the same order
+        private final Map<LocalDate, Long> pendingByDueDate = new TreeMap<>();
+
+        void add(TodoView todo, long sign) {
+            if (todo == null) {
+                return;
+            }
+            if (Boolean.TRUE.equals(todo.getIsCompleted())) {
+                completed += sign;
+                return;
+            }
+            pending += sign;
+            if (todo.getDueDate() != null) {
+                addDue(todo.getDueDate(), sign);
+            }
+        }
+
+        void add(OwnerDeltas other) {
+            pending += other.pending;
+            completed += other.completed;
+            other.pendingByDueDate.forEach(this::addDue);
+        }
+
+        private void addDue(LocalDate dueDate, long delta) {
+            pendingByDueDate.merge(dueDate, delta, (current, added) -> (current + added == 0) ? null : current + added);
+        }
+
+    }
+
+    private class PendingDeltas implements TransactionSynchronization {
+        private final Map<String, OwnerDeltas> deltasByOwner = new LinkedHashMap<>();
+        private final Map<String, Long> versionsByOwner = new LinkedHashMap<>();
+
+        void add(String ownerUid, OwnerDeltas deltas) {
+            deltasByOwner.computeIfAbsent(ownerUid, key -> new OwnerDeltas()).add(deltas);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltasByOwner.forEach((ownerUid, deltas) ->
+                    apply(ownerUid, deltas).ifPresent(version -> versionsByOwner.put(ownerUid, version)));
+        }
+
+        @Override
+        public void afterCommit() {
+            versionsByOwner.forEach(todoVersionService::recordCommitted);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TodoCounterService.this);
+        }
+    }
+}
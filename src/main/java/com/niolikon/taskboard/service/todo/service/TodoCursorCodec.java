@@ -0,0 +1,115 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Translates keyset scroll positions over {@link Todo} to opaque cursor tokens and back.
+ * A token carries the values of the sort keys and of the id of the last element of a page.
+ */
+final class TodoCursorCodec {
+    private static final String INVALID_CURSOR = "Invalid cursor";
+    private static final String ID_PROPERTY = "id";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TodoCursorCodec() {}
+
+    static String encode(KeysetScrollPosition position) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        position.getKeys().forEach((property, value) ->
+                keys.put(property, toEncodedValue(value)));
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keys);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> encodedKeys;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            encodedKeys = objectMapper.readValue(json, new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ResponseStatusException(BAD_REQUEST, INVALID_CURSOR, e);
+        }
+
+        if (!encodedKeys.keySet().equals(keyProperties(sort))) {
+            throw new ResponseStatusException(BAD_REQUEST, "Cursor does not match requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        encodedKeys.forEach((property, value) -> keys.put(property, toPropertyValue(property, value)));
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object toEncodedValue(Object value) {
+        if (value instanceof Date date) {
+            return date.getTime();
+        }
+        if (value instanceof LocalDate localDate) {
+            return localDate.toString();
+        }
+        return value;
+    }
+
+    private static Set<String> keyProperties(Sort sort) {
+        Set<String> properties = new LinkedHashSet<>();
+        sort.forEach(order -> properties.add(order.getProperty()));
+        properties.add(ID_PROPERTY);
+        return properties;
+    }
+
+    private static Object toPropertyValue(String property, Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> propertyType;
+        try {
+            propertyType = Todo.class.getDeclaredField(property).getType();
+        } catch (NoSuchFieldException e) {
+            throw new ResponseStatusException(BAD_REQUEST, INVALID_CURSOR, e);
+        }
+
+        if (propertyType == Long.class && value instanceof Number number) {
+            return number.longValue();
+        }
+        if (propertyType == Date.class && value instanceof Number number) {
+            return new Date(number.longValue());
+        }
+        if (propertyType == LocalDate.class && value instanceof String text) {
+            try {
+                return LocalDate.parse(text);
+            } catch (DateTimeParseException e) {
+                throw new ResponseStatusException(BAD_REQUEST, INVALID_CURSOR, e);
+            }
+        }
+        if (propertyType.isInstance(value)) {
+            return value;
+        }
+        throw new ResponseStatusException(BAD_REQUEST, INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,164 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.niolikon.taskboard.service.todo.dto.TodoImportError;
+import com.niolikon.taskboard.service.todo.dto.TodoImportReport;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports an NDJSON upload, one {@link TodoRequest} per line. Lines are read, parsed and validated one at a time,
+ * and the valid ones are created in chunks of {@code chunk-size}, each through {@link ITodoService#createAll} in its
+ * own transaction, so at most one chunk of the upload is held in memory. Lines longer than {@code max-line-length}
+ * are skipped to their end without being kept. Invalid lines are reported and skipped without affecting the others;
+ * a chunk that cannot be stored is reported line by line.
+ */
+@Service
+public class TodoImportService implements ITodoImportService {
+    static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String TODO_NOT_STORED = "Could not store Todo";
+
+    private final ITodoService todoService;
+    private final ObjectReader todoRequestReader;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public TodoImportService(ITodoService todoService, ObjectMapper objectMapper, Validator validator,
+                             @Value("${taskboard.import.chunk-size:500}") int chunkSize,
+                             @Value("${taskboard.import.max-line-length:4096}") int maxLineLength) {
+        this.todoService = todoService;
+        this.todoRequestReader = objectMapper.readerFor(TodoRequest.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public TodoImportReport importAll(String ownerUid, InputStream ndjson) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<TodoRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        while (readLine(reader, line)) {
+            lineNumber++;
+            if (line.length() > maxLineLength) {
+                progress.reject(lineNumber, "Line is longer than " + maxLineLength + " characters");
+                continue;
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+            TodoRequest todoRequest = parse(line.toString(), lineNumber, progress);
+            if (todoRequest == null) {
+                continue;
+            }
+            chunk.add(todoRequest);
+            chunkLines.add(lineNumber);
+            if (chunk.size() == chunkSize) {
+                store(ownerUid, chunk, chunkLines, progress);
+            }
+        }
+        store(ownerUid, chunk, chunkLines, progress);
+        return progress.toReport();
+    }
+
+    /**
+     * Reads the next line into {@code line}, keeping no more than one character beyond max-line-length: an over-long
+     * line is recognized by its length, the rest of it is read and dropped. Returns false at the end of the upload.
+     */
+    private boolean readLine(Reader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() <= maxLineLength) {
+                line.append((char) c);
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return true;
+    }
+
+    private TodoRequest parse(String line, long lineNumber, ImportProgress progress) {
+        TodoRequest todoRequest;
+        try {
+            todoRequest = todoRequestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.reject(lineNumber, e.getOriginalMessage());
+            return null;
+        }
+        if (todoRequest == null) {
+            progress.reject(lineNumber, "Line is not a Todo");
+            return null;
+        }
+        Set<ConstraintViolation<TodoRequest>> violations = validator.validate(todoRequest);
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted(Comparator.naturalOrder())
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return todoRequest;
+    }
+
+    private void store(String ownerUid, List<TodoRequest> chunk, List<Long> chunkLines, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            todoService.createAll(ownerUid, List.copyOf(chunk));
+            progress.imported += chunk.size();
+        } catch (DataAccessException | TransactionException e) {
+            chunkLines.forEach(lineNumber -> progress.reject(lineNumber, TODO_NOT_STORED));
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static class ImportProgress {
+        private long imported;
+        private long rejected;
+        private final List<TodoImportError> errors = new ArrayList<>();
+
+        private void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TodoImportError(lineNumber, message));
+            }
+        }
+
+        private TodoImportReport toReport() {
+            return new TodoImportReport(imported, rejected, errors);
+        }
+    }
+}
@@ -3,95 +3,422 @@ package com.niolikon.taskboard.service.todo.service;
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
 import com.niolikon.taskboard.framework.exceptions.rest.client.EntityNotFoundRestException;
 import com.niolikon.taskboard.framework.exceptions.rest.client.ForbiddenRestException;
+import com.niolikon.taskboard.service.data.dto.CursorPageResponse;
+import com.niolikon.taskboard.service.data.dto.SliceResponse;
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
 import com.niolikon.taskboard.service.todo.TodoMapper;
 import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkOutcome;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkStatus;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
 import com.niolikon.taskboard.service.todo.model.Todo;
-import jakarta.transaction.Transactional;
+import com.niolikon.taskboard.service.todo.model.TodoCounter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Objects;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 @Service
 @Transactional
 public class TodoService implements ITodoService {
     private static final String TODO_NOT_FOUND = "Could not find Todo";
+    private static final String TODO_VERSION_MISMATCH = "Todo was modified since the expected version";
 
     private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
     private final TodoMapper todoMapper;
+    private final TodoCounterService todoCounterService;
+    private final TodoCacheService todoCacheService;
+    private final TodoVersionService todoVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
-    public TodoService(TodoRepository todoRepository, TodoMapper todoMapper) {
+    public TodoService(TodoRepository todoRepository, TodoArchiveRepository todoArchiveRepository, TodoMapper todoMapper,
+                       TodoCounterService todoCounterService, TodoCacheService todoCacheService,
+                       TodoVersionService todoVersionService, ApplicationEventPublisher eventPublisher, Clock clock) {
         this.todoRepository = todoRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
         this.todoMapper = todoMapper;
+        this.todoCounterService = todoCounterService;
+        this.todoCacheService = todoCacheService;
+        this.todoVersionService = todoVersionService;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     @Override
     public TodoView create(String ownerUid, TodoRequest todoRequest) {
         Todo todo = todoMapper.toTodo(todoRequest);
         todo.setOwnerUid(ownerUid);
-        return todoMapper.toTodoView(todoRepository.save(todo));
+        TodoView createdTodo = todoMapper.toTodoView(todoRepository.save(todo));
+        eventPublisher.publishEvent(TodoEvent.created(ownerUid, createdTodo));
+        return createdTodo;
+    }
+
+    @Override
+    public List<TodoView> createAll(String ownerUid, List<TodoRequest> todoRequests) {
+        List<Todo> todos = todoRequests.stream()
+                .map(todoMapper::toTodo)
+                .toList();
+        todos.forEach(todo -> todo.setOwnerUid(ownerUid));
+        // Sequence ids are assigned on persist, so the inserts are deferred and flushed as JDBC batches
+        List<TodoView> createdTodos = todoRepository.saveAll(todos).stream()
+                .map(todoMapper::toTodoView)
+                .toList();
+        createdTodos.forEach(createdTodo -> eventPublisher.publishEvent(TodoEvent.created(ownerUid, createdTodo)));
+        return createdTodos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedTodoPage readAll(String ownerUid, Pageable pageable) {
+        // Read before the page, in its transaction: the page reflects at least this version
+        long version = todoVersionService.readStoredVersion(ownerUid);
+        return new VersionedTodoPage(version, readAllPage(ownerUid, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<TodoView> readAllWithoutTotal(String ownerUid, Pageable pageable) {
+        Slice<TodoView> todos = todoRepository.findViewSliceByOwnerUid(ownerUid, pageable);
+        return new SliceResponse<>(todos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllWithEstimatedTotal(String ownerUid, Pageable pageable) {
+        Optional<Long> estimatedTotal = todoCounterService.find(ownerUid).map(TodoCounter::getTotalCount);
+        if (estimatedTotal.isEmpty()) {
+            return readAllPage(ownerUid, pageable);
+        }
+        Slice<TodoView> todos = todoRepository.findViewSliceByOwnerUid(ownerUid, pageable);
+        return toEstimatedPageResponse(todos, estimatedTotal.get());
     }
 
     @Override
-    public PageResponse<TodoView> readAll(String ownerUid, Pageable pageable) {
-        Page<Todo> todos = todoRepository.findByOwnerUid(ownerUid, pageable);
-        return new PageResponse<>(todos.map(todoMapper::toTodoView));
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoView> readAll(String ownerUid, String after, Pageable pageable) {
+        KeysetScrollPosition position = TodoCursorCodec.decode(after, pageable.getSort());
+        Window<Todo> todos = todoRepository.findByOwnerUid(ownerUid, position, Limit.of(pageable.getPageSize()), pageable.getSort());
+        return toCursorPageResponse(todos, pageable);
     }
 
     @Override
+    // Cache hits need no transaction, nor connection; misses are loaded in the repository's read-only transaction
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TodoView read(String ownerUid, Long id) {
-        Todo todo = todoRepository.findByIdAndOwnerUid(id, ownerUid)
+        return todoCacheService.findByIdAndOwnerUid(id, ownerUid)
+                .filter(cachedTodo -> ownerUid.equals(cachedTodo.ownerUid()))
+                .map(TodoCacheService.CachedTodo::toTodoView)
                 .orElseThrow(() -> new EntityNotFoundRestException(TodoService.TODO_NOT_FOUND));
-        return todoMapper.toTodoView(todo);
     }
 
     @Override
-    public TodoView update(String ownerUid, Long id, TodoRequest todoRequest) {
-        Todo todo = todoRepository.findByIdAndOwnerUid(id, ownerUid)
-                .orElseThrow(() -> new EntityNotFoundRestException(TodoService.TODO_NOT_FOUND));
-        if (Boolean.TRUE.equals(todo.getIsCompleted()))  {
-            throw new ForbiddenRestException("Cannot modify completed Todo");
+    @Transactional(readOnly = true)
+    public TodoSummary readSummary(String ownerUid) {
+        return todoCounterService.summarize(ownerUid);
+    }
+
+    @Override
+    // Mostly served from memory: no transaction, nor connection, unless the version has to be read
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long readVersion(String ownerUid) {
+        return todoVersionService.currentVersion(ownerUid);
+    }
+
+    @Override
+    public TodoView update(String ownerUid, Long id, TodoRequest todoRequest, Long expectedVersion) {
+        Todo changes = todoMapper.toTodo(todoRequest);
+        Optional<Todo> previousTodo = todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(id, ownerUid, changes, expectedVersion);
+        if (previousTodo.isPresent()) {
+            return publishUpdated(ownerUid, previousTodo.get(), changes);
         }
-        todo.updateFrom(todoMapper.toTodo(todoRequest));
-        todo = todoRepository.save(todo);
-        return todoMapper.toTodoView(todo);
+
+        findUnmatched(ownerUid, id, expectedVersion);
+        throw new ForbiddenRestException("Cannot modify completed Todo");
     }
 
     @Override
-    public TodoView patch(String ownerUid, Long id, TodoPatch todoPatch)
+    public TodoView patch(String ownerUid, Long id, TodoPatch todoPatch, Long expectedVersion)
     {
-        Todo todo = todoRepository.findByIdAndOwnerUid(id, ownerUid)
-                .orElseThrow(() -> new EntityNotFoundRestException(TodoService.TODO_NOT_FOUND));
-        if (Objects.isNull(todo.getIsCompleted()) || (! todo.getIsCompleted()))  {
-            todo.updateFrom(todoMapper.toTodo(todoPatch));
-            todo = todoRepository.save(todo);
+        Todo changes = todoMapper.toTodo(todoPatch);
+        Optional<Todo> previousTodo = todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(id, ownerUid, changes, expectedVersion);
+        if (previousTodo.isPresent()) {
+            return publishUpdated(ownerUid, previousTodo.get(), changes);
+        }
+
+        // Completed todos are returned unchanged
+        return todoMapper.toTodoView(findUnmatched(ownerUid, id, expectedVersion));
+    }
+
+    @Override
+    public List<TodoBulkOutcome> patchAll(String ownerUid, TodoBulkPatch todoBulkPatch) {
+        List<Long> ids = todoBulkPatch.getIds().stream().distinct().toList();
+        Map<Long, Todo> todosById = todoRepository.findByOwnerUidAndIdIn(ownerUid, ids).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        List<TodoBulkOutcome> outcomes = ids.stream()
+                .map(id -> new TodoBulkOutcome(id, toBulkStatus(todosById.get(id))))
+                .toList();
+        List<Todo> pendingTodos = todosById.values().stream()
+                .filter(todo -> !Boolean.TRUE.equals(todo.getIsCompleted()))
+                .toList();
+
+        if (!pendingTodos.isEmpty()) {
+            Todo patch = todoMapper.toTodo(todoBulkPatch.getPatch());
+            Map<Long, TodoView> previousTodos = pendingTodos.stream()
+                    .collect(Collectors.toMap(Todo::getId, todoMapper::toTodoView));
+            todoRepository.patchPendingByOwnerUidAndIdIn(ownerUid, previousTodos.keySet(),
+                    emptyToNull(patch.getTitle()), emptyToNull(patch.getDescription()),
+                    patch.getIsCompleted(), patch.getDueDate());
+            // The bulk update cleared the persistence context: replaying the patch on the detached rows
+            // yields the stored state without writing them back
+            pendingTodos.forEach(todo -> {
+                todo.replayUpdate(patch);
+                eventPublisher.publishEvent(TodoEvent.updated(ownerUid, previousTodos.get(todo.getId()), todoMapper.toTodoView(todo)));
+            });
+        }
+
+        return outcomes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedTodoPage readAllPending(String ownerUid, Pageable pageable)
+    {
+        long version = todoVersionService.readStoredVersion(ownerUid);
+        return new VersionedTodoPage(version, readPageByCompletion(ownerUid, Boolean.FALSE, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<TodoView> readAllPendingWithoutTotal(String ownerUid, Pageable pageable)
+    {
+        Slice<TodoView> pendingTodos = todoRepository.findViewSliceByOwnerUidAndIsCompleted(ownerUid, Boolean.FALSE, pageable);
+        return new SliceResponse<>(pendingTodos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllPendingWithEstimatedTotal(String ownerUid, Pageable pageable)
+    {
+        Optional<Long> estimatedTotal = todoCounterService.find(ownerUid).map(TodoCounter::getPendingCount);
+        if (estimatedTotal.isEmpty()) {
+            return readPageByCompletion(ownerUid, Boolean.FALSE, pageable);
+        }
+        Slice<TodoView> pendingTodos = todoRepository.findViewSliceByOwnerUidAndIsCompleted(ownerUid, Boolean.FALSE, pageable);
+        return toEstimatedPageResponse(pendingTodos, estimatedTotal.get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoView> readAllPending(String ownerUid, String after, Pageable pageable)
+    {
+        KeysetScrollPosition position = TodoCursorCodec.decode(after, pageable.getSort());
+        Window<Todo> pendingTodos = todoRepository.findByOwnerUidAndIsCompleted(ownerUid, Boolean.FALSE, position, Limit.of(pageable.getPageSize()), pageable.getSort());
+        return toCursorPageResponse(pendingTodos, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedTodoPage readAllCompleted(String ownerUid, Pageable pageable)
+    {
+        long version = todoVersionService.readStoredVersion(ownerUid);
+        return new VersionedTodoPage(version, readPageByCompletion(ownerUid, Boolean.TRUE, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<TodoView> readAllCompletedWithoutTotal(String ownerUid, Pageable pageable)
+    {
+        Slice<TodoView> completedTodos = todoRepository.findViewSliceByOwnerUidAndIsCompleted(ownerUid, Boolean.TRUE, pageable);
+        return new SliceResponse<>(completedTodos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllCompletedWithEstimatedTotal(String ownerUid, Pageable pageable)
+    {
+        Optional<Long> estimatedTotal = todoCounterService.find(ownerUid).map(TodoCounter::getCompletedCount);
+        if (estimatedTotal.isEmpty()) {
+            return readPageByCompletion(ownerUid, Boolean.TRUE, pageable);
+        }
+        Slice<TodoView> completedTodos = todoRepository.findViewSliceByOwnerUidAndIsCompleted(ownerUid, Boolean.TRUE, pageable);
+        return toEstimatedPageResponse(completedTodos, estimatedTotal.get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoView> readAllCompleted(String ownerUid, String after, Pageable pageable)
+    {
+        KeysetScrollPosition position = TodoCursorCodec.decode(after, pageable.getSort());
+        Window<Todo> completedTodos = todoRepository.findByOwnerUidAndIsCompleted(ownerUid, Boolean.TRUE, position, Limit.of(pageable.getPageSize()), pageable.getSort());
+        return toCursorPageResponse(completedTodos, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllOverdue(String ownerUid, Pageable pageable)
+    {
+        LocalDate today = LocalDate.now(clock);
+        Page<TodoView> overdueTodos = todoRepository.findPendingViewsByOwnerUidAndDueDateBefore(ownerUid, today, pageable);
+        return new PageResponse<>(overdueTodos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllDue(String ownerUid, LocalDate from, LocalDate to, Pageable pageable)
+    {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Due date range starts after it ends");
         }
+        Page<TodoView> dueTodos = todoRepository.findPendingViewsByOwnerUidAndDueDateBetween(ownerUid, from, to, pageable);
+        return new PageResponse<>(dueTodos);
+    }
 
-        return todoMapper.toTodoView(todo);
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> readAllArchived(String ownerUid, Pageable pageable)
+    {
+        Page<TodoView> archivedTodos = todoArchiveRepository.findViewsByOwnerUid(ownerUid, pageable);
+        return new PageResponse<>(archivedTodos);
     }
 
     @Override
-    public PageResponse<TodoView> readAllPending(String ownerUid, Pageable pageable)
+    @Transactional(readOnly = true)
+    public PageResponse<TodoView> search(String ownerUid, String query, Pageable pageable)
     {
-        Page<Todo> pendingTodos = todoRepository.findByOwnerUidAndIsCompleted(ownerUid, Boolean.FALSE, pageable);
-        return new PageResponse<>(pendingTodos.map(todoMapper::toTodoView));
+        Page<TodoView> matchingTodos = todoRepository.searchViewsByOwnerUid(ownerUid, query.trim(), pageable);
+        return new PageResponse<>(matchingTodos);
     }
 
     @Override
-    public PageResponse<TodoView> readAllCompleted(String ownerUid, Pageable pageable)
+    @Transactional(readOnly = true)
+    public void exportAll(String ownerUid, Consumer<TodoView> sink)
     {
-        Page<Todo> pendingTodos = todoRepository.findByOwnerUidAndIsCompleted(ownerUid, Boolean.TRUE, pageable);
-        return new PageResponse<>(pendingTodos.map(todoMapper::toTodoView));
+        // A failing sink propagates out of the loop and closes the stream, releasing the cursor
+        try (Stream<Todo> todos = todoRepository.streamByOwnerUid(ownerUid)) {
+            todos.map(todoMapper::toTodoView).forEach(sink);
+        }
     }
 
     @Override
-    public void delete(String ownerUid, Long id) {
+    public void delete(String ownerUid, Long id, Long expectedVersion) {
+        Todo deletedTodo = todoRepository.deleteByIdAndOwnerUidReturning(id, ownerUid, expectedVersion)
+                .orElseThrow(() -> {
+                    findUnmatched(ownerUid, id, expectedVersion);
+                    // Completed todos are deleted too, so a todo left in place is held or changed by a concurrent write
+                    return new ResponseStatusException(PRECONDITION_FAILED, TODO_VERSION_MISMATCH);
+                });
+        publishDeleted(ownerUid, List.of(deletedTodo));
+    }
+
+    @Override
+    public List<TodoBulkOutcome> deleteAll(String ownerUid, TodoBulkDelete todoBulkDelete) {
+        List<Long> ids = todoBulkDelete.getIds().stream().distinct().toList();
+        List<Todo> deletedTodos = todoRepository.deleteAllByOwnerUidAndIdInReturning(ownerUid, ids);
+        publishDeleted(ownerUid, deletedTodos);
+
+        Set<Long> deletedIds = deletedTodos.stream().map(Todo::getId).collect(Collectors.toSet());
+        return ids.stream()
+                .map(id -> new TodoBulkOutcome(id, deletedIds.contains(id) ? TodoBulkStatus.DELETED : TodoBulkStatus.NOT_FOUND))
+                .toList();
+    }
+
+    // No row matched the single-todo statement: reports a missing todo or a failed precondition, otherwise hands back
+    // the todo, which the statement skipped for being completed
+    private Todo findUnmatched(String ownerUid, Long id, Long expectedVersion) {
         Todo todo = todoRepository.findByIdAndOwnerUid(id, ownerUid)
                 .orElseThrow(() -> new EntityNotFoundRestException(TodoService.TODO_NOT_FOUND));
-        todoRepository.delete(todo);
+        // A pending todo still at the expected version was skipped because a concurrent write holds it
+        if (expectedVersion != null
+                && (!expectedVersion.equals(todo.getVersion()) || !Boolean.TRUE.equals(todo.getIsCompleted()))) {
+            throw new ResponseStatusException(PRECONDITION_FAILED, TODO_VERSION_MISMATCH);
+        }
+        return todo;
+    }
+
+    private void publishDeleted(String ownerUid, List<Todo> deletedTodos) {
+        deletedTodos.forEach(todo -> eventPublisher.publishEvent(TodoEvent.deleted(ownerUid, todoMapper.toTodoView(todo))));
+    }
+
+    private TodoView publishUpdated(String ownerUid, Todo previousTodo, Todo changes) {
+        TodoView previousView = todoMapper.toTodoView(previousTodo);
+        // The statement applied the same non-empty fields, so replaying them on the detached row yields the stored state
+        previousTodo.replayUpdate(changes);
+        TodoView updatedView = todoMapper.toTodoView(previousTodo);
+        eventPublisher.publishEvent(TodoEvent.updated(ownerUid, previousView, updatedView));
+        return updatedView;
+    }
+
+    private static TodoBulkStatus toBulkStatus(Todo todo) {
+        if (todo == null) {
+            return TodoBulkStatus.NOT_FOUND;
+        }
+        return Boolean.TRUE.equals(todo.getIsCompleted()) ? TodoBulkStatus.LOCKED : TodoBulkStatus.UPDATED;
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+
+    private PageResponse<TodoView> readAllPage(String ownerUid, Pageable pageable) {
+        Page<TodoView> todos = todoRepository.findViewsByOwnerUid(ownerUid, pageable);
+        return new PageResponse<>(todos);
+    }
+
+    private PageResponse<TodoView> readPageByCompletion(String ownerUid, Boolean isCompleted, Pageable pageable) {
+        Page<TodoView> todos = todoRepository.findViewsByOwnerUidAndIsCompleted(ownerUid, isCompleted, pageable);
+        return new PageResponse<>(todos);
+    }
+
+    private PageResponse<TodoView> toEstimatedPageResponse(Slice<TodoView> todos, long estimatedTotal) {
+        // The slice itself proves a lower bound, which keeps first/last consistent with the content
+        long offset = todos.getPageable().isPaged() ? todos.getPageable().getOffset() : 0;
+        long provenTotal = offset + todos.getNumberOfElements() + (todos.hasNext() ? 1 : 0);
+        Page<TodoView> page = new PageImpl<>(todos.getContent(), todos.getPageable(),
+                Math.max(estimatedTotal, provenTotal));
+        return new PageResponse<>(page);
+    }
+
+    private CursorPageResponse<TodoView> toCursorPageResponse(Window<Todo> todos, Pageable pageable) {
+        String next = todos.hasNext()
+                ? TodoCursorCodec.encode((KeysetScrollPosition) todos.positionAt(todos.size() - 1))
+                : null;
+        return CursorPageResponse.<TodoView>builder()
+                .content(todos.map(todoMapper::toTodoView).getContent())
+                .elementsSize(todos.size())
+                .pageSize(pageable.getPageSize())
+                .next(next)
+                .last(!todos.hasNext())
+                .build();
     }
 }
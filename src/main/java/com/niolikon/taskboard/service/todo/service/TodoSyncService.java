@@ -0,0 +1,100 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.TodoTombstoneRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.event.TodoEventType;
+import com.niolikon.taskboard.service.todo.model.TodoTombstone;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.GONE;
+
+/**
+ * Delta sync of an owner's todos. Every write stamps the todo's {@code updated_at}, and deletion and archival leave a
+ * tombstone in the same transaction, so a client sends back the token of its last sync and reads only the changes
+ * since, by seek in (changed at, id) order. A change is stamped before its transaction commits and may become visible
+ * after later ones were read: the token of the last page never moves past {@code commit-lag} ago, and the changes of
+ * that window are handed out again by the next sync. Tombstones are purged after {@code tombstone-retention}, and
+ * older tokens are refused for the client to reload all of its todos.
+ */
+@Service
+public class TodoSyncService implements ITodoSyncService {
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    public TodoSyncService(TodoRepository todoRepository, TodoTombstoneRepository todoTombstoneRepository,
+                           @Value("${taskboard.sync.commit-lag:PT1M}") Duration commitLag,
+                           @Value("${taskboard.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.todoRepository = todoRepository;
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    // Read-write, so on the primary: a lagging replica would let the token move past changes it has not applied yet
+    @Transactional
+    public TodoChangePage readChanges(String ownerUid, String since, int size) {
+        LocalDateTime now = todoRepository.currentTimestamp();
+        TodoSyncTokenCodec.Position position = TodoSyncTokenCodec.decode(since);
+        if (position != TodoSyncTokenCodec.INITIAL && position.changedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new ResponseStatusException(GONE, "Sync token has expired, reload all todos");
+        }
+
+        List<TodoChange> changes = todoRepository.findChangesByOwnerUidAfter(ownerUid, position.changedAt(), position.id(), size + 1);
+        boolean last = changes.size() <= size;
+        List<TodoChange> page = last ? changes : changes.subList(0, size);
+        TodoSyncTokenCodec.Position next = page.isEmpty()
+                ? position
+                : positionOf(page.get(page.size() - 1));
+        if (last) {
+            TodoSyncTokenCodec.Position settled = new TodoSyncTokenCodec.Position(now.minus(commitLag), 0L);
+            if (next.isAfter(settled)) {
+                next = settled;
+            }
+        }
+        return TodoChangePage.builder()
+                .changes(page)
+                .next(TodoSyncTokenCodec.encode(next))
+                .last(last)
+                .build();
+    }
+
+    @EventListener
+    public void onTodoEvent(TodoEvent event) {
+        if (event.getType() == TodoEventType.DELETED || event.getType() == TodoEventType.ARCHIVED) {
+            todoTombstoneRepository.save(TodoTombstone.builder()
+                    .todoId(event.getTodoId())
+                    .ownerUid(event.getOwnerUid())
+                    .build());
+        }
+    }
+
+    /**
+     * Purges up to {@code batchSize} of the tombstones no token can still ask for, oldest first.
+     *
+     * @return the number of purged tombstones; less than {@code batchSize} once none is left
+     */
+    @Transactional
+    public int purgeTombstones(int batchSize) {
+        // Trails the expiry of tokens by the commit lag, so a sync admitted just before still reads its tombstones
+        LocalDateTime cutoff = todoRepository.currentTimestamp().minus(tombstoneRetention).minus(commitLag);
+        return todoTombstoneRepository.deleteRemovedBefore(cutoff, batchSize);
+    }
+
+    private static TodoSyncTokenCodec.Position positionOf(TodoChange change) {
+        return new TodoSyncTokenCodec.Position(change.getChangedAt(), change.getTodoId());
+    }
+}
@@ -0,0 +1,59 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Translates delta sync positions to opaque tokens and back.
+ * A token carries the change time and the id of the change that the next sync resumes after.
+ */
+final class TodoSyncTokenCodec {
+    private static final String INVALID_TOKEN = "Invalid sync token";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Before any change: a client without a token reads all of the owner's todos
+    static final Position INITIAL = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private TodoSyncTokenCodec() {}
+
+    static String encode(Position position) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new EncodedPosition(position.changedAt().toString(), position.id()));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode sync token", e);
+        }
+    }
+
+    static Position decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token);
+            EncodedPosition encoded = objectMapper.readValue(json, EncodedPosition.class);
+            if (encoded.changedAt() == null || encoded.id() == null) {
+                throw new ResponseStatusException(BAD_REQUEST, INVALID_TOKEN);
+            }
+            return new Position(LocalDateTime.parse(encoded.changedAt()), encoded.id());
+        } catch (IllegalArgumentException | IOException | DateTimeParseException e) {
+            throw new ResponseStatusException(BAD_REQUEST, INVALID_TOKEN, e);
+        }
+    }
+
+    record Position(LocalDateTime changedAt, long id) {
+        boolean isAfter(Position other) {
+            int byChangedAt = changedAt.compareTo(other.changedAt);
+            return (byChangedAt != 0) ? byChangedAt > 0 : id > other.id;
+        }
+    }
+
+    private record EncodedPosition(String changedAt, Long id) {}
+}
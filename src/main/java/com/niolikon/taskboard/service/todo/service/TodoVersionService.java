@@ -0,0 +1,71 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the version of each owner's todos from memory. The version lives on the owner's counter row and is bumped by
+ * {@link TodoCounterService} in the transaction of every write, which records it here once committed. Versions are
+ * only ever raised, so a read racing with a commit cannot bring back an older one. Writes through other instances
+ * are picked up when the cached version is older than {@code version-ttl}.
+ */
+@Service
+public class TodoVersionService {
+    private static final int PURGE_THRESHOLD = 100_000;
+    // Owners without a counter row have never been written since versions were introduced
+    private static final long INITIAL_VERSION = 0L;
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<String, CachedVersion> versionsByOwner = new ConcurrentHashMap<>();
+
+    public TodoVersionService(TodoCounterRepository todoCounterRepository, Clock clock,
+                              @Value("${taskboard.counters.version-ttl:PT5S}") Duration ttl) {
+        this.todoCounterRepository = todoCounterRepository;
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public long currentVersion(String ownerUid) {
+        long now = clock.millis();
+        CachedVersion cached = versionsByOwner.get(ownerUid);
+        if (cached != null && !cached.isExpired(now, ttl)) {
+            return cached.version();
+        }
+        long version = todoCounterRepository.findVersionByOwnerUid(ownerUid).orElse(INITIAL_VERSION);
+        return record(ownerUid, version, now);
+    }
+
+    /**
+     * Reads the owner's version in the current transaction, bypassing memory, so that it comes from the same database
+     * as what the transaction reads next.
+     */
+    public long readStoredVersion(String ownerUid) {
+        return todoCounterRepository.findVersionByOwnerUid(ownerUid).orElse(INITIAL_VERSION);
+    }
+
+    public void recordCommitted(String ownerUid, long version) {
+        record(ownerUid, version, clock.millis());
+    }
+
+    private long record(String ownerUid, long version, long now) {
+        if (versionsByOwner.size() >= PURGE_THRESHOLD) {
+            versionsByOwner.values().removeIf(cached -> cached.isExpired(now, ttl));
+        }
+        return versionsByOwner.merge(ownerUid, new CachedVersion(version, now),
+                (cached, read) -> (read.version() >= cached.version()) ? read : cached).version();
+    }
+
+    private record CachedVersion(long version, long recordedAt) {
+        boolean isExpired(long now, Duration ttl) {
+            return now - recordedAt >= ttl.toMillis();
+        }
+    }
+}
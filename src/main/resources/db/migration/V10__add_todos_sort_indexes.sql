@@ -0,0 +1,10 @@
+-- List endpoints sort by id, due date or title, always closed by id: each sortable key gets an owner-leading index
+-- ending in id, so a sorted page is read in index order instead of sorting all of the owner's rows.
+drop index if exists idx_todos_owner_due_date;
+create index if not exists idx_todos_owner_due_date_id on todos (owner_uid, due_date, id);
+
+create index if not exists idx_todos_owner_title_id on todos (owner_uid, title, id);
+
+-- Agenda lists of pending todos, in due date order
+drop index if exists idx_todos_owner_completed_due_date;
+create index if not exists idx_todos_owner_completed_due_date_id on todos (owner_uid, is_completed, due_date, id);
@@ -0,0 +1,2 @@
+-- Reminders load the pending todos due on a day across all owners, in id batches
+create index if not exists idx_todos_completed_due_date_id on todos (is_completed, due_date, id);
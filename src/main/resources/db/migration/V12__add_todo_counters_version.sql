@@ -0,0 +1,2 @@
+-- Bumped by every write of an owner's todos, so that unchanged lists can be answered with 304 Not Modified
+alter table todo_counters add column if not exists version bigint not null default 0;
@@ -0,0 +1,2 @@
+-- Optimistic locking: bumped by every update of a todo and exposed to clients as its ETag
+alter table todos add column if not exists version bigint not null default 0;
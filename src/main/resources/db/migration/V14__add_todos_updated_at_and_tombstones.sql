@@ -0,0 +1,16 @@
+-- Delta sync: every write stamps updated_at on the database clock. Rows written before this migration count as
+-- changed when it runs.
+alter table todos add column if not exists updated_at timestamp(6) default current_timestamp not null;
+
+-- Changes of an owner since a sync token, in (updated_at, id) order
+create index if not exists idx_todos_owner_updated_at_id on todos (owner_uid, updated_at, id);
+
+-- Deleted and archived todos, so that delta sync can tell clients to drop them; purged after the sync retention
+create table if not exists todo_tombstones (
+    todo_id    bigint primary key,
+    owner_uid  varchar(255) not null,
+    removed_at timestamp(6) default current_timestamp not null
+);
+
+create index if not exists idx_todo_tombstones_owner_removed_at_id on todo_tombstones (owner_uid, removed_at, todo_id);
+create index if not exists idx_todo_tombstones_removed_at on todo_tombstones (removed_at);
@@ -0,0 +1,12 @@
+-- Transactional outbox: every todo write adds its event in the same transaction, and the relay publishes and deletes
+-- them in batches, oldest first. Ids come from a pooled sequence, so that the inserts are batched with the writes.
+create sequence if not exists todo_outbox_seq start with 1 increment by 50;
+
+create table if not exists todo_outbox (
+    id         bigint primary key,
+    event_type varchar(16) not null,
+    owner_uid  varchar(255) not null,
+    todo_id    bigint not null,
+    payload    varchar(4000) not null,
+    created_at timestamp(6) not null
+);
@@ -0,0 +1,8 @@
+create table if not exists todos (
+    id           bigint generated by default as identity primary key,
+    title        varchar(255),
+    description  varchar(255),
+    is_completed boolean,
+    due_date     timestamp(6),
+    owner_uid    varchar(255)
+);
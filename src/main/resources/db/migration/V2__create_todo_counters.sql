@@ -0,0 +1,5 @@
+create table if not exists todo_counters (
+    owner_uid       varchar(255) primary key,
+    pending_count   bigint not null default 0,
+    completed_count bigint not null default 0
+);
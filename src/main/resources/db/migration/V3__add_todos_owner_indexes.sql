@@ -0,0 +1,10 @@
+-- Every repository query is scoped by owner_uid: lead each index with it.
+
+-- findByOwnerUid / findByIdAndOwnerUid, default id ordering and id keyset
+create index if not exists idx_todos_owner_id on todos (owner_uid, id);
+
+-- findByOwnerUidAndIsCompleted (pending / completed lists) with id ordering
+create index if not exists idx_todos_owner_completed_id on todos (owner_uid, is_completed, id);
+
+-- owner lists sorted or filtered by due date
+create index if not exists idx_todos_owner_due_date on todos (owner_uid, due_date);
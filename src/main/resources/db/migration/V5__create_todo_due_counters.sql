@@ -0,0 +1,15 @@
+-- Pending todos per owner and due day, maintained alongside todo_counters: overdue and due-today
+-- counts are sums over a handful of rows instead of scans of todos.
+create table if not exists todo_due_counters (
+    owner_uid     varchar(255) not null,
+    due_date      date not null,
+    pending_count bigint not null default 0,
+    primary key (owner_uid, due_date)
+);
+
+-- Owners already counted in todo_counters read their due counts from here at once, so start from the stored todos
+insert into todo_due_counters (owner_uid, due_date, pending_count)
+select owner_uid, cast(due_date as date), count(*)
+from todos
+where due_date is not null and (is_completed = false or is_completed is null)
+group by owner_uid, cast(due_date as date);
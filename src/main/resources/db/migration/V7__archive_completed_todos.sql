@@ -0,0 +1,22 @@
+-- Completion time ages completed todos for archival. Rows completed before this migration age from now.
+alter table todos add column if not exists completed_at timestamp(6);
+
+update todos set completed_at = current_timestamp where is_completed = true and completed_at is null;
+
+-- archival batches pick the oldest completed todos across owners
+create index if not exists idx_todos_completed_at on todos (is_completed, completed_at);
+
+-- Completed todos moved out of the hot table by the archival job
+create table if not exists todos_archive (
+    id           bigint primary key,
+    title        varchar(255),
+    description  varchar(255),
+    is_completed boolean,
+    due_date     timestamp(6),
+    owner_uid    varchar(255) not null,
+    completed_at timestamp(6),
+    archived_at  timestamp(6) not null
+);
+
+-- findViewsByOwnerUid on the archive, default id ordering
+create index if not exists idx_todos_archive_owner_id on todos_archive (owner_uid, id);
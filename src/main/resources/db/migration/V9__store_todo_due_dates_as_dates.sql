@@ -0,0 +1,8 @@
+-- Due dates are calendar days: a DATE column compares against a day directly, with no time-of-day or time zone
+-- arithmetic around the comparison. Existing values keep the day of their stored local timestamp, which is the day
+-- the due counters were built from.
+alter table todos alter column due_date set data type date;
+alter table todos_archive alter column due_date set data type date;
+
+-- Agenda queries: an owner's pending todos within a due date range, read in due date order
+create index if not exists idx_todos_owner_completed_due_date on todos (owner_uid, is_completed, due_date);
@@ -0,0 +1,55 @@
+package com.niolikon.taskboard.service.data.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceUnitTest {
+
+    private final ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenDetermineLookupKey_thenPrimaryIsSelected() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // Act
+        Object result = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertThat(result).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenDetermineLookupKey_thenReplicaIsSelected() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object result = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertThat(result).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    void givenReadOnlyTransactionPinnedToPrimary_whenDetermineLookupKey_thenPrimaryIsSelected() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        DataSourceRoutingContext.pinToPrimary();
+
+        // Act
+        Object result = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertThat(result).isEqualTo(DataSourceRole.PRIMARY);
+    }
+}
@@ -0,0 +1,49 @@
+package com.niolikon.taskboard.service.data.routing;
+
+import com.niolikon.taskboard.service.todo.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerUnitTest {
+    private static final String OWNER_UID = "test-user-id";
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+
+    @Test
+    void givenRecentWrite_whenIsSticky_thenOwnerIsSticky() {
+        // Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+        tracker.recordWrite(OWNER_UID);
+        clock.set(START.plusSeconds(4));
+
+        // Act & Assert
+        assertThat(tracker.isSticky(OWNER_UID)).isTrue();
+        assertThat(tracker.isSticky("another-user-id")).isFalse();
+    }
+
+    @Test
+    void givenWriteOutsideWindow_whenIsSticky_thenOwnerIsNotSticky() {
+        // Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+        tracker.recordWrite(OWNER_UID);
+        clock.set(START.plusSeconds(5));
+
+        // Act & Assert
+        assertThat(tracker.isSticky(OWNER_UID)).isFalse();
+    }
+
+    @Test
+    void givenZeroWindow_whenIsSticky_thenOwnerIsNeverSticky() {
+        // Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ZERO, clock);
+        tracker.recordWrite(OWNER_UID);
+
+        // Act & Assert
+        assertThat(tracker.isSticky(OWNER_UID)).isFalse();
+    }
+}
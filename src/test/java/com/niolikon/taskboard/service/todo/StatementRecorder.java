@@ -0,0 +1,136 @@
+package com.niolikon.taskboard.service.todo;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps the DataSource of the test context to record the statements sent while {@link #record} runs, with the calls
+ * binding their parameters, so that tests can explain exactly what the repositories issue. Import it into the test.
+ */
+class StatementRecorder implements BeanPostProcessor {
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    List<RecordedStatement> record(Runnable action) {
+        statements.clear();
+        recording = true;
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)) {
+            return new RecordingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * A statement as sent by the application, with its parameters bound in the original order.
+     */
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * Explains the statement with the same parameters; DML statements are planned but not executed.
+         */
+        List<String> explain(JdbcTemplate jdbcTemplate) {
+            return jdbcTemplate.query("explain " + sql, preparedStatement -> {
+                for (Binding binding : bindings) {
+                    binding.applyTo(preparedStatement);
+                }
+            }, (resultSet, rowNum) -> resultSet.getString(1));
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    record Binding(Method setter, Object[] args) {
+        void applyTo(PreparedStatement preparedStatement) throws SQLException {
+            try {
+                setter.invoke(preparedStatement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private class RecordingDataSource extends DelegatingDataSource {
+        RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recordingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recordingConnection(super.getConnection(username, password));
+        }
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (recording && method.getName().equals("prepareStatement")) {
+                        return recordingStatement((PreparedStatement) result, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement preparedStatement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        boolean[] batched = {false};
+        statements.add(new RecordedStatement(sql, bindings));
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    // setString(1, ...), setObject(2, ..., Types.DATE), setNull(3, Types.BIGINT), ...
+                    // Only the first row of a JDBC batch is kept
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2
+                            && method.getParameterTypes()[0] == int.class && !batched[0]) {
+                        bindings.add(new Binding(method, Arrays.copyOf(args, args.length)));
+                    } else if (method.getName().equals("addBatch")) {
+                        batched[0] = true;
+                    }
+                    return invoke(preparedStatement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
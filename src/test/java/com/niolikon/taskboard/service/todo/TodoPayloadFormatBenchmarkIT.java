@@ -0,0 +1,82 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares encoding a 100-item page of {@link TodoView} as JSON with the CBOR and Smile encodings negotiated by
+ * the Todo API, and reports payload size and encode/decode latency per page for each format. Binary payloads must
+ * be smaller than JSON and decode to the same document.
+ */
+class TodoPayloadFormatBenchmarkIT {
+    private static final Logger log = LoggerFactory.getLogger(TodoPayloadFormatBenchmarkIT.class);
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    @Test
+    void givenHundredItemPage_whenEncodedAsBinaryFormats_thenPayloadIsSmallerThanJsonAndCostIsReported() throws IOException {
+        // Arrange
+        LocalDate dueDate = LocalDate.now();
+        List<TodoView> views = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(n -> new TodoView(n, "Task " + n, "Description of task number " + n, n % 3 == 0,
+                        dueDate.plusDays(n % 90)))
+                .toList();
+        PageResponse<TodoView> page = new PageResponse<>(new PageImpl<>(views, PageRequest.of(0, PAGE_SIZE), 5_000));
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        // Act
+        Measurement json = measure(jsonMapper, page);
+        Measurement cbor = measure(cborMapper, page);
+        Measurement smile = measure(smileMapper, page);
+
+        // Assert
+        log.info("JSON page of {}: {} bytes, {} us per round trip", PAGE_SIZE, json.bytesPerPage(), json.nanosPerPage() / 1_000);
+        log.info("CBOR page of {}: {} bytes, {} us per round trip", PAGE_SIZE, cbor.bytesPerPage(), cbor.nanosPerPage() / 1_000);
+        log.info("Smile page of {}: {} bytes, {} us per round trip", PAGE_SIZE, smile.bytesPerPage(), smile.nanosPerPage() / 1_000);
+
+        JsonNode expectedDocument = jsonMapper.readTree(jsonMapper.writeValueAsBytes(page));
+        assertThat(cborMapper.readTree(cborMapper.writeValueAsBytes(page))).isEqualTo(expectedDocument);
+        assertThat(smileMapper.readTree(smileMapper.writeValueAsBytes(page))).isEqualTo(expectedDocument);
+        assertThat(cbor.bytesPerPage()).isLessThan(json.bytesPerPage());
+        assertThat(smile.bytesPerPage()).isLessThan(json.bytesPerPage());
+    }
+
+    private Measurement measure(ObjectMapper mapper, PageResponse<TodoView> page) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(page));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(page));
+        }
+        long nanos = System.nanoTime() - start;
+        return new Measurement(nanos / MEASURED_ITERATIONS, encodedSize(mapper, page));
+    }
+
+    private static int encodedSize(ObjectMapper mapper, PageResponse<TodoView> page) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page).length;
+    }
+
+    private record Measurement(long nanosPerPage, int bytesPerPage) {}
+}
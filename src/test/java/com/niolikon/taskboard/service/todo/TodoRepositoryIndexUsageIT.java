@@ -0,0 +1,116 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the statements issued by the {@link TodoRepository} methods, as recorded from the DataSource with their
+ * parameters, are served by the owner-leading indexes created by the Flyway migrations. Those indexes are declared on
+ * the partitioned table, so the plans name the per-partition copies ({@code todos_p<n>_...}). Sequential scans are
+ * disabled for the transaction, so the planner falls back to a Seq Scan only when no index can answer the query.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgreSQLTestContainersConfig.class, StatementRecorder.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoRepositoryIndexUsageIT {
+    private static final String OWNER_UID = "owner-0";
+    private static final String OWNER_INDEX_PREFIX = "using todos_p";
+    private static final String ANY_INDEX = "Index";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @BeforeEach
+    void seedTodosAndDisableSequentialScans() {
+        jdbcTemplate.update("""
+                insert into todos (id, title, description, is_completed, due_date, owner_uid)
+                select n, 'Task ' || n, 'Description ' || n, n % 3 = 0,
+                       now() + (n % 90) * interval '1 day', 'owner-' || (n % 50)
+                from generate_series(1, 5000) as n
+                """);
+        jdbcTemplate.execute("analyze todos");
+        jdbcTemplate.execute("set local enable_seqscan = off");
+    }
+
+    Stream<Arguments> provideRepositoryCalls() {
+        LocalDate today = LocalDate.now();
+        ScrollPosition afterId100 = ScrollPosition.forward(Map.of("id", 100L));
+        return Stream.of(
+                Arguments.of("findViewsByOwnerUid", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUid(OWNER_UID, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findViewsByOwnerUidAndIsCompleted (pending)", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUidAndIsCompleted(OWNER_UID, false, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findViewsByOwnerUidAndIsCompleted (completed)", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUidAndIsCompleted(OWNER_UID, true, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findViewSliceByOwnerUid", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewSliceByOwnerUid(OWNER_UID, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findByOwnerUid (keyset)", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findByOwnerUid(OWNER_UID, afterId100, Limit.of(10), Sort.by("id"))),
+                Arguments.of("findByOwnerUidAndIsCompleted (keyset)", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findByOwnerUidAndIsCompleted(OWNER_UID, false, afterId100, Limit.of(10), Sort.by("id"))),
+                Arguments.of("findViewsByOwnerUid sorted by dueDate", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUid(OWNER_UID, PageRequest.of(0, 10, Sort.by("dueDate", "id")))),
+                Arguments.of("findViewsByOwnerUid sorted by dueDate descending", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUid(OWNER_UID,
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dueDate", "id")))),
+                Arguments.of("findViewsByOwnerUid sorted by title", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findViewsByOwnerUid(OWNER_UID, PageRequest.of(0, 10, Sort.by("title", "id")))),
+                Arguments.of("findPendingViewsByOwnerUidAndDueDateBefore", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findPendingViewsByOwnerUidAndDueDateBefore(OWNER_UID, today.plusDays(30),
+                                PageRequest.of(0, 10, Sort.by("dueDate", "id")))),
+                Arguments.of("findPendingViewsByOwnerUidAndDueDateBetween", OWNER_INDEX_PREFIX, (Runnable) () ->
+                        todoRepository.findPendingViewsByOwnerUidAndDueDateBetween(OWNER_UID, today, today.plusDays(30),
+                                PageRequest.of(0, 10, Sort.by("dueDate", "id")))),
+                Arguments.of("findByIdAndOwnerUid", ANY_INDEX, (Runnable) () ->
+                        todoRepository.findByIdAndOwnerUid(100L, OWNER_UID)),
+                Arguments.of("existsByIdAndOwnerUid", ANY_INDEX, (Runnable) () ->
+                        todoRepository.existsByIdAndOwnerUid(100L, OWNER_UID))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideRepositoryCalls")
+    void givenSeededTodos_whenRepositoryStatementsAreExplained_thenAnIndexIsUsed(String call, String expectedIndex,
+                                                                               Runnable repositoryCall) {
+        // Arrange
+        List<RecordedStatement> statements = statementRecorder.record(repositoryCall);
+
+        // Act & Assert
+        assertThat(statements).as("statements of %s", call).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            List<String> plan = statement.explain(jdbcTemplate);
+            assertThat(plan)
+                    .as("plan of %s:%n%s%n%s", call, statement, String.join("\n", plan))
+                    .noneMatch(line -> line.contains("Seq Scan on todos"))
+                    .anyMatch(line -> line.contains(expectedIndex));
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.StatementRecorder.RecordedStatement;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the todos table is hash-partitioned by owner on PostgreSQL: the seeded owners spread over
+ * every partition, each statement issued by the owner-scoped repository methods, as recorded from the DataSource with
+ * its parameters, is planned against the owner's partition only, and the repository methods still return exactly the
+ * owner's rows.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgreSQLTestContainersConfig.class, StatementRecorder.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoRepositoryPartitionPruningIT {
+    private static final int OWNER_COUNT = 200;
+    private static final int TODO_COUNT = 50_000;
+    private static final String OWNER_UID = "owner-7";
+    // owner-7 holds the ids congruent to 7 modulo OWNER_COUNT
+    private static final Long OWNER_TODO_ID = 7L;
+    private static final Pattern PARTITION = Pattern.compile("\\bon (todos_p\\d+)\\b");
+    private static final Pattern TODOS_TABLE = Pattern.compile("\\btodos\\b");
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCounterRepository todoCounterRepository;
+
+    @Autowired
+    private TodoDueCounterRepository todoDueCounterRepository;
+
+    @Autowired
+    private TodoArchiveRepository todoArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @BeforeEach
+    void seedTodos() {
+        jdbcTemplate.update("""
+                insert into todos (id, title, description, is_completed, due_date, owner_uid)
+                select n, 'Task ' || n, 'Description ' || n, n % 3 = 0,
+                       now() + (n % 90) * interval '1 day', 'owner-' || (n % ?)
+                from generate_series(1, ?) as n
+                """, OWNER_COUNT, TODO_COUNT);
+        jdbcTemplate.execute("analyze todos");
+    }
+
+    @Test
+    void givenSeededOwners_whenRowsAreCountedPerPartition_thenEveryPartitionHoldsRows() {
+        // Arrange
+        Integer partitionCount = jdbcTemplate.queryForObject(
+                "select count(*) from pg_inherits where inhparent = 'todos'::regclass", Integer.class);
+
+        // Act
+        List<Long> rowsPerPartition = jdbcTemplate.queryForList(
+                "select count(*) from todos group by tableoid", Long.class);
+
+        // Assert
+        assertThat(partitionCount).isGreaterThan(1);
+        assertThat(rowsPerPartition)
+                .hasSize(partitionCount)
+                .allMatch(rows -> rows > 0);
+        assertThat(rowsPerPartition.stream().mapToLong(Long::longValue).sum()).isEqualTo(TODO_COUNT);
+    }
+
+    Stream<Arguments> provideRepositoryCalls() {
+        LocalDate today = LocalDate.now();
+        List<Long> ownerTodoIds = List.of(OWNER_TODO_ID, OWNER_TODO_ID + OWNER_COUNT);
+        return Stream.of(
+                Arguments.of("findViewsByOwnerUid", (Runnable) () ->
+                        todoRepository.findViewsByOwnerUid(OWNER_UID, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findViewsByOwnerUidAndIsCompleted", (Runnable) () ->
+                        todoRepository.findViewsByOwnerUidAndIsCompleted(OWNER_UID, false, PageRequest.of(0, 10, Sort.by("id")))),
+                Arguments.of("findViewSliceByOwnerUidAndIsCompleted", (Runnable) () ->
+                        todoRepository.findViewSliceByOwnerUidAndIsCompleted(OWNER_UID, true, PageRequest.of(0, 10, Sort.by("dueDate", "id")))),
+                Arguments.of("findPendingViewsByOwnerUidAndDueDateBefore", (Runnable) () ->
+                        todoRepository.findPendingViewsByOwnerUidAndDueDateBefore(OWNER_UID, today.plusDays(30), PageRequest.of(0, 10))),
+                Arguments.of("findPendingViewsByOwnerUidAndDueDateBetween", (Runnable) () ->
+                        todoRepository.findPendingViewsByOwnerUidAndDueDateBetween(OWNER_UID, today, today.plusDays(7), PageRequest.of(0, 10))),
+                Arguments.of("findByOwnerUid (keyset)", (Runnable) () ->
+                        todoRepository.findByOwnerUid(OWNER_UID, ScrollPosition.forward(Map.of("id", 100L)), Limit.of(10), Sort.by("id"))),
+                Arguments.of("findByIdAndOwnerUid", (Runnable) () ->
+                        todoRepository.findByIdAndOwnerUid(OWNER_TODO_ID, OWNER_UID)),
+                Arguments.of("existsByIdAndOwnerUid", (Runnable) () ->
+                        todoRepository.existsByIdAndOwnerUid(OWNER_TODO_ID, OWNER_UID)),
+                Arguments.of("findByOwnerUidAndIdIn (for update)", (Runnable) () ->
+                        todoRepository.findByOwnerUidAndIdIn(OWNER_UID, ownerTodoIds)),
+                Arguments.of("summarizeByOwnerUid", (Runnable) () ->
+                        todoRepository.summarizeByOwnerUid(OWNER_UID, today)),
+                Arguments.of("save (entity update)", (Runnable) () -> {
+                    todoRepository.findByIdAndOwnerUid(OWNER_TODO_ID, OWNER_UID).orElseThrow().setTitle("Updated");
+                    todoRepository.flush();
+                }),
+                Arguments.of("delete (entity delete)", (Runnable) () -> {
+                    todoRepository.delete(todoRepository.findByIdAndOwnerUid(OWNER_TODO_ID, OWNER_UID).orElseThrow());
+                    todoRepository.flush();
+                }),
+                Arguments.of("patchPendingByOwnerUidAndIdIn", (Runnable) () ->
+                        todoRepository.patchPendingByOwnerUidAndIdIn(OWNER_UID, ownerTodoIds, "Bulk", null, null, null)),
+                Arguments.of("updatePendingByIdAndOwnerUidReturningPrevious", (Runnable) () ->
+                        todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(OWNER_TODO_ID, OWNER_UID,
+                                Todo.builder().title("Updated").build(), 0L)),
+                Arguments.of("deleteByIdAndOwnerUidReturning", (Runnable) () ->
+                        todoRepository.deleteByIdAndOwnerUidReturning(OWNER_TODO_ID, OWNER_UID, 0L)),
+                Arguments.of("deleteAllByOwnerUidAndIdInReturning", (Runnable) () ->
+                        todoRepository.deleteAllByOwnerUidAndIdInReturning(OWNER_UID, ownerTodoIds)),
+                Arguments.of("streamByOwnerUid", (Runnable) () -> {
+                    try (Stream<Todo> todos = todoRepository.streamByOwnerUid(OWNER_UID)) {
+                        todos.findFirst();
+                    }
+                }),
+                Arguments.of("searchViewsByOwnerUid", (Runnable) () ->
+                        todoRepository.searchViewsByOwnerUid(OWNER_UID, "Task", PageRequest.of(0, 10))),
+                Arguments.of("findChangesByOwnerUidAfter", (Runnable) () ->
+                        todoRepository.findChangesByOwnerUidAfter(OWNER_UID, LocalDateTime.of(2025, 1, 1, 0, 0), 0L, 11)),
+                Arguments.of("TodoCounterRepository.seed", (Runnable) () ->
+                        todoCounterRepository.seed(OWNER_UID)),
+                Arguments.of("TodoCounterRepository.recount", (Runnable) () ->
+                        todoCounterRepository.recount(OWNER_UID)),
+                Arguments.of("TodoDueCounterRepository.seed", (Runnable) () ->
+                        todoDueCounterRepository.seed(OWNER_UID, today)),
+                Arguments.of("TodoDueCounterRepository.recount", (Runnable) () ->
+                        todoDueCounterRepository.recount(OWNER_UID)),
+                Arguments.of("TodoArchiveRepository.copyFromTodos", (Runnable) () ->
+                        todoArchiveRepository.copyFromTodos(List.of(OWNER_UID), ownerTodoIds)),
+                Arguments.of("TodoArchiveRepository.deleteFromTodos", (Runnable) () ->
+                        todoArchiveRepository.deleteFromTodos(List.of(OWNER_UID), ownerTodoIds))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideRepositoryCalls")
+    void givenSeededTodos_whenRepositoryStatementsAreExplained_thenOnlyTheOwnerPartitionIsScanned(String call,
+                                                                                                Runnable repositoryCall) {
+        // Arrange
+        String ownerPartition = jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from todos where owner_uid = ? limit 1", String.class, OWNER_UID);
+        List<RecordedStatement> statements = statementRecorder.record(repositoryCall).stream()
+                .filter(statement -> TODOS_TABLE.matcher(statement.sql()).find())
+                .toList();
+
+        // Act & Assert
+        assertThat(statements).as("statements on todos of %s", call).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            List<String> plan = statement.explain(jdbcTemplate);
+            assertThat(scannedPartitions(plan))
+                    .as("partitions in plan of %s:%n%s%n%s", call, statement, String.join("\n", plan))
+                    .containsExactly(ownerPartition);
+        }
+    }
+
+    @Test
+    void givenSeededOwners_whenOwnerTodosAreListed_thenExactlyTheOwnerRowsAreReturned() {
+        for (String ownerUid : List.of("owner-0", OWNER_UID, "owner-42", "owner-199")) {
+            // Arrange
+            Set<Long> expectedIds = new HashSet<>(jdbcTemplate.queryForList(
+                    "select id from todos where owner_uid = ?", Long.class, ownerUid));
+            Long expectedPending = jdbcTemplate.queryForObject(
+                    "select count(*) from todos where owner_uid = ? and is_completed = false", Long.class, ownerUid);
+
+            // Act
+            List<TodoView> views = todoRepository.findViewsByOwnerUid(ownerUid, PageRequest.of(0, TODO_COUNT, Sort.by("id")))
+                    .getContent();
+            long pendingTotal = todoRepository.findViewsByOwnerUidAndIsCompleted(ownerUid, false, PageRequest.of(0, 1))
+                    .getTotalElements();
+            Set<Long> lockedIds = todoRepository.findByOwnerUidAndIdIn(ownerUid, expectedIds).stream()
+                    .map(Todo::getId)
+                    .collect(Collectors.toSet());
+
+            // Assert
+            assertThat(views).extracting(TodoView::getId).containsExactlyInAnyOrderElementsOf(expectedIds);
+            assertThat(pendingTotal).isEqualTo(expectedPending);
+            assertThat(lockedIds).isEqualTo(expectedIds);
+        }
+    }
+
+    @Test
+    void givenTodoOfAnotherOwner_whenLookedUpByIdAndOwner_thenNothingIsFound() {
+        // Arrange
+        Long otherOwnerTodoId = jdbcTemplate.queryForObject(
+                "select min(id) from todos where owner_uid = 'owner-8'", Long.class);
+
+        // Act & Assert
+        assertThat(todoRepository.findByIdAndOwnerUid(otherOwnerTodoId, OWNER_UID)).isEmpty();
+        assertThat(todoRepository.findByIdAndOwnerUid(otherOwnerTodoId, "owner-8")).isPresent();
+        assertThat(todoRepository.deleteAllByOwnerUidAndIdInReturning(OWNER_UID, List.of(otherOwnerTodoId))).isEmpty();
+    }
+
+    private static Set<String> scannedPartitions(List<String> plan) {
+        Set<String> partitions = new HashSet<>();
+        for (String line : plan) {
+            Matcher matcher = PARTITION.matcher(line);
+            while (matcher.find()) {
+                partitions.add(matcher.group(1));
+            }
+        }
+        return partitions;
+    }
+}
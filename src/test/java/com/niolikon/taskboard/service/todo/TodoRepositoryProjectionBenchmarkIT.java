@@ -0,0 +1,119 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares loading a 100-item page as managed {@link Todo} entities mapped through {@link TodoMapper}
+ * with the {@link TodoView} constructor projection used by the list endpoints, and reports latency and
+ * allocated bytes per page for both. The projection path must not hydrate any entity.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgreSQLTestContainersConfig.class)
+class TodoRepositoryProjectionBenchmarkIT {
+    private static final Logger log = LoggerFactory.getLogger(TodoRepositoryProjectionBenchmarkIT.class);
+    private static final String OWNER_UID = "owner-0";
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedTodos() {
+        jdbcTemplate.update("""
+                insert into todos (id, title, description, is_completed, due_date, owner_uid)
+                select n, 'Task ' || n, 'Description ' || n, n % 3 = 0,
+                       now() + (n % 90) * interval '1 day', 'owner-' || (n % 10)
+                from generate_series(1, 5000) as n
+                """);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void givenHundredItemPages_whenLoadedAsProjection_thenNoEntityIsHydratedAndCostIsReported() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        // Same SQL shape as the slice query (one extra row to detect the next page), but hydrating managed entities
+        Supplier<List<TodoView>> entityPath = () -> entityManager
+                .createQuery("select t from Todo t where t.ownerUid = :ownerUid order by t.id", Todo.class)
+                .setParameter("ownerUid", OWNER_UID)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList().stream()
+                .limit(PAGE_SIZE)
+                .map(TodoMapper.INSTANCE::toTodoView)
+                .toList();
+        Supplier<List<TodoView>> projectionPath = () -> todoRepository.findViewSliceByOwnerUid(OWNER_UID, pageable)
+                .getContent();
+
+        // Act
+        Measurement entityMeasurement = measure(entityPath);
+        Measurement projectionMeasurement = measure(projectionPath);
+
+        statistics.clear();
+        List<TodoView> projectedViews = projectionPath.get();
+        long projectionEntityLoads = statistics.getEntityLoadCount();
+
+        // Assert
+        log.info("Entity page of {}: {} us, {} bytes allocated", PAGE_SIZE,
+                entityMeasurement.nanosPerPage() / 1_000, entityMeasurement.bytesPerPage());
+        log.info("Projection page of {}: {} us, {} bytes allocated", PAGE_SIZE,
+                projectionMeasurement.nanosPerPage() / 1_000, projectionMeasurement.bytesPerPage());
+
+        assertThat(projectedViews).hasSize(PAGE_SIZE).isEqualTo(entityPath.get());
+        assertThat(projectionEntityLoads).isZero();
+        assertThat(projectionMeasurement.bytesPerPage()).isLessThan(entityMeasurement.bytesPerPage());
+    }
+
+    private Measurement measure(Supplier<List<TodoView>> path) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.get();
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            path.get();
+            entityManager.clear();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(nanos / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS);
+    }
+
+    private record Measurement(long nanosPerPage, long bytesPerPage) {}
+}
@@ -0,0 +1,115 @@
+package com.niolikon.taskboard.service.todo;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the owner-scoped search on PostgreSQL: full-text matches on titles and descriptions ranked title-first,
+ * substring and typo-tolerant matches on titles, and no rows from other owners. The full-text and trigram predicates
+ * must each be answerable by their GIN index.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgreSQLTestContainersConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoRepositorySearchIT {
+    private static final String OWNER_UID = "owner-0";
+    private static final String OTHER_OWNER_UID = "owner-1";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedTodos() {
+        jdbcTemplate.update("""
+                insert into todos (id, title, description, is_completed, due_date, owner_uid)
+                select n, 'Task ' || n, 'Description ' || n, n % 3 = 0,
+                       now() + (n % 90) * interval '1 day', 'owner-' || (n % 50)
+                from generate_series(1, 5000) as n
+                """);
+        jdbcTemplate.update("""
+                insert into todos (id, title, description, is_completed, due_date, owner_uid) values
+                    (10001, 'Renew passport', 'Book an appointment at the office', false, now(), ?),
+                    (10002, 'Pay invoices', 'Renew the passport photos first', false, now(), ?),
+                    (10003, 'Quarterly report', 'Send to accounting', false, now(), ?),
+                    (10004, 'Renew passport', 'Someone else''s todo', false, now(), ?)
+                """, OWNER_UID, OWNER_UID, OWNER_UID, OTHER_OWNER_UID);
+        jdbcTemplate.execute("analyze todos");
+    }
+
+    Stream<Arguments> provideSearchQueries() {
+        return Stream.of(
+                Arguments.of("full-text, title before description", "passport renew", List.of(10001L, 10002L)),
+                Arguments.of("full-text, description only", "accounting", List.of(10003L)),
+                Arguments.of("title substring", "Quarter", List.of(10003L)),
+                Arguments.of("title typo", "quartely report", List.of(10003L)),
+                Arguments.of("no match", "groceries", List.of())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideSearchQueries")
+    void givenSeededTodos_whenOwnerSearches_thenMatchingOwnTodosAreReturnedBestFirst(String scenario, String query, List<Long> expectedIds) {
+        // Act
+        Page<TodoView> result = todoRepository.searchViewsByOwnerUid(OWNER_UID, query, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).extracting(TodoView::getId).as(scenario).containsExactlyElementsOf(expectedIds);
+        assertThat(result.getTotalElements()).isEqualTo(expectedIds.size());
+    }
+
+    @Test
+    void givenMatchesBeyondFirstPage_whenOwnerSearches_thenTotalCountsAllMatches() {
+        // Act
+        Page<TodoView> result = todoRepository.searchViewsByOwnerUid(OWNER_UID, "task", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.getTotalElements()).isEqualTo(100L);
+    }
+
+    Stream<Arguments> provideIndexedPredicates() {
+        return Stream.of(
+                Arguments.of("search_vector", "search_vector @@ websearch_to_tsquery('simple', 'passport')"),
+                Arguments.of("title substring", "title ilike '%quarter%'"),
+                Arguments.of("title word similarity", "'quartely' <% title")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideIndexedPredicates")
+    void givenSearchPredicate_whenExplained_thenGinIndexIsUsed(String predicate, String sql) {
+        // Arrange
+        jdbcTemplate.execute("set local enable_seqscan = off");
+
+        // Act
+        List<String> plan = jdbcTemplate.queryForList("explain select id from todos where " + sql, String.class);
+
+        // Assert
+        assertThat(plan)
+                .as("plan of %s", predicate)
+                .noneMatch(line -> line.contains("Seq Scan"))
+                .anyMatch(line -> line.contains("Bitmap Index Scan on todos_p"));
+    }
+}
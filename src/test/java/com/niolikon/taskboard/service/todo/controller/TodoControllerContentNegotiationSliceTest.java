@@ -0,0 +1,152 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.niolikon.taskboard.service.config.BinaryMessageConvertersConfig;
+import com.niolikon.taskboard.service.config.SecurityConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
+import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.stream.Stream;
+
+import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.*;
+import static com.niolikon.taskboard.service.todo.controller.testdata.TodoControllerTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TodoController.class)
+@Import({SecurityConfig.class, BinaryMessageConvertersConfig.class, TodoControllerContentNegotiationSliceTest.TestSecurityBeans.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoControllerContentNegotiationSliceTest {
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @MockitoBean
+    private ITodoService todoService;
+
+    @MockitoBean
+    private ITodoImportService todoImportService;
+
+    @MockitoBean
+    private ITodoChangeFeed todoChangeFeed;
+
+    @MockitoBean
+    private ITodoSyncService todoSyncService;
+
+    @TestConfiguration
+    static class TestSecurityBeans {
+        @Bean
+        public JwtAuthenticationConverter jwtAuthenticationConverter() {
+            return new JwtAuthenticationConverter();
+        }
+    }
+
+    Stream<Arguments> provideBinaryMediaType() {
+        return Stream.of(
+                Arguments.of(APPLICATION_CBOR, objectMapperBuilder.factory(new CBORFactory()).build()),
+                Arguments.of(APPLICATION_SMILE, objectMapperBuilder.factory(new SmileFactory()).build())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideBinaryMediaType")
+    void givenBinaryAcceptHeader_whenReadTodo_thenViewIsEncodedInRequestedFormat(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // Arrange
+        when(todoService.read(VALID_USER_ID, VALID_TODO_ASSIGNED_ID)).thenReturn(todoView_expected_fromTodoRequest);
+
+        // Act
+        MvcResult result = mockMvc.perform(get(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
+                        .with(jwtRequest_withValidRole)
+                        .accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+
+        // Assert
+        JsonNode decoded = binaryMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(decoded).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(todoView_expected_fromTodoRequest)));
+    }
+
+    Stream<MediaType> provideNegotiatedMediaType() {
+        return Stream.of(MediaType.APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideNegotiatedMediaType")
+    void givenVersionedTodo_whenReadInAnyFormat_thenItsETagVariesByAccept(MediaType mediaType) throws Exception {
+        // Arrange
+        when(todoService.read(VALID_USER_ID, VALID_TODO_ASSIGNED_ID)).thenReturn(todoView_versioned_fromRepository);
+
+        // Act
+        MvcResult result = mockMvc.perform(get(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
+                        .with(jwtRequest_withValidRole)
+                        .accept(mediaType))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG_VALID_TODO_VERSION);
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideBinaryMediaType")
+    void givenBinaryRequestBody_whenCreateTodo_thenRequestIsDecodedFromSentFormat(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // Arrange
+        TodoRequest expectedRequest = objectMapper.readValue(objectMapper.writeValueAsBytes(todoRequest_valid_fromClient), TodoRequest.class);
+        when(todoService.create(eq(VALID_USER_ID), any())).thenReturn(todoView_expected_fromTodoRequest);
+
+        // Act
+        mockMvc.perform(post(API_PATH_TODO_BASE)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(binaryMapper.writeValueAsBytes(todoRequest_valid_fromClient)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(mediaType));
+
+        // Assert
+        ArgumentCaptor<TodoRequest> requestCaptor = ArgumentCaptor.forClass(TodoRequest.class);
+        verify(todoService).create(eq(VALID_USER_ID), requestCaptor.capture());
+        assertThat(requestCaptor.getValue()).isEqualTo(expectedRequest);
+    }
+}
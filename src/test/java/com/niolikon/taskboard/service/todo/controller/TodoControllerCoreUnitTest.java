@@ -1,26 +1,51 @@
 package com.niolikon.taskboard.service.todo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+import com.niolikon.taskboard.service.todo.dto.TodoImportReport;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
 import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.niolikon.taskboard.service.todo.controller.testdata.TodoControllerTestData.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpStatus.*;
@@ -29,6 +54,9 @@ class TodoControllerCoreUnitTest {
 
     private Jwt stubJwt;
     private ITodoService todoService;
+    private ITodoImportService todoImportService;
+    private ITodoChangeFeed todoChangeFeed;
+    private ITodoSyncService todoSyncService;
     private TodoController todoController;
 
     @BeforeEach
@@ -37,7 +65,11 @@ class TodoControllerCoreUnitTest {
         when(stubJwt.getSubject()).thenReturn(JWT_SUBJECT_VALID_USER_ID);
 
         todoService = mock(ITodoService.class);
-        todoController = new TodoController(todoService);
+        todoImportService = mock(ITodoImportService.class);
+        todoChangeFeed = mock(ITodoChangeFeed.class);
+        todoSyncService = mock(ITodoSyncService.class);
+        todoController = new TodoController(todoService, todoImportService, todoChangeFeed, todoSyncService,
+                new ObjectMapper().findAndRegisterModules());
     }
 
     @Test
@@ -69,14 +101,84 @@ class TodoControllerCoreUnitTest {
         List<TodoView> todos = List.of(todoView_instance1_fromRepository, todoView_instance2_fromRepository);
         Page<TodoView> todosPage = new PageImpl<>(todos, pageable_firstPageSize10_fromClient, todos.size());
         PageResponse<TodoView> todosPageResponse = new PageResponse<>(todosPage);
-        when(todoService.readAll(anyString(), eq(pageable_firstPageSize10_fromClient))).thenReturn(todosPageResponse);
+        when(todoService.readAll(anyString(), eq(pageable_firstPageSize10_restrictedById)))
+                .thenReturn(new VersionedTodoPage(VALID_OWNER_VERSION, todosPageResponse));
+        when(todoService.readVersion(JWT_SUBJECT_VALID_USER_ID)).thenReturn(VALID_OWNER_VERSION);
 
         // Act
-        ResponseEntity<PageResponse<TodoView>> response = todoController.readAll(stubJwt, pageable_firstPageSize10_fromClient);
+        ResponseEntity<PageResponse<TodoView>> response = todoController.readAll(stubJwt, pageable_firstPageSize10_fromClient,
+                new ServletWebRequest(new MockHttpServletRequest()));
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(OK);
         assertThat(response.getBody()).isEqualTo(todosPageResponse);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG_VALID_OWNER_VERSION);
+    }
+
+    @Test
+    void givenMatchingIfNoneMatch_whenReadAllTodos_thenNotModifiedIsReturnedWithoutReadingTodos() {
+        // Arrange
+        when(todoService.readVersion(JWT_SUBJECT_VALID_USER_ID)).thenReturn(VALID_OWNER_VERSION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", TodoApiPaths.API_PATH_TODO_BASE);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG_VALID_OWNER_VERSION);
+
+        // Act
+        ResponseEntity<PageResponse<TodoView>> response = todoController.readAll(stubJwt, pageable_firstPageSize10_fromClient,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG_VALID_OWNER_VERSION);
+        verify(todoService, never()).readAll(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void givenStaleIfNoneMatch_whenReadAllPendingTodos_thenOkIsReturnedWithCurrentETag() {
+        // Arrange
+        PageResponse<TodoView> pendingTodosPageResponse = pageResponseTodoView_empty_fromRepository;
+        when(todoService.readVersion(JWT_SUBJECT_VALID_USER_ID)).thenReturn(VALID_OWNER_VERSION);
+        when(todoService.readAllPending(anyString(), eq(pageable_firstPageSize10_restrictedById))).thenReturn(versionedTodoPage_empty_fromRepository);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", TodoApiPaths.API_PATH_TODO_PENDING);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + (VALID_OWNER_VERSION - 1) + "\"");
+
+        // Act
+        ResponseEntity<PageResponse<TodoView>> response = todoController.readAllPending(stubJwt, pageable_firstPageSize10_fromClient,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).isEqualTo(pendingTodosPageResponse);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG_VALID_OWNER_VERSION);
+    }
+
+    @Test
+    void givenPageReadAtNewerVersion_whenReadAllCompletedTodos_thenETagIsTheVersionServed() {
+        // Arrange
+        when(todoService.readVersion(JWT_SUBJECT_VALID_USER_ID)).thenReturn(VALID_OWNER_VERSION);
+        when(todoService.readAllCompleted(anyString(), eq(pageable_firstPageSize10_restrictedById)))
+                .thenReturn(new VersionedTodoPage(VALID_OWNER_VERSION + 1, pageResponseTodoView_empty_fromRepository));
+
+        // Act
+        ResponseEntity<PageResponse<TodoView>> response = todoController.readAllCompleted(stubJwt, pageable_firstPageSize10_fromClient,
+                new ServletWebRequest(new MockHttpServletRequest()));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"" + (VALID_OWNER_VERSION + 1) + "\"");
+    }
+
+    @Test
+    void givenUnsortableSortAndMatchingIfNoneMatch_whenReadAllTodos_thenBadRequestIsThrown() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", TodoApiPaths.API_PATH_TODO_BASE);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG_VALID_OWNER_VERSION);
+        Pageable unsortablePageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoController.readAll(stubJwt, unsortablePageable, new ServletWebRequest(request, new MockHttpServletResponse())))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(BAD_REQUEST));
+        verifyNoInteractions(todoService);
     }
 
     @Test
@@ -99,10 +201,10 @@ class TodoControllerCoreUnitTest {
         // Arrange
         Long todoId = 1L;
         TodoView updatedTodo = todoView_expected_fromTodoRequest;
-        when(todoService.update(anyString(), eq(todoId), any(TodoRequest.class))).thenReturn(updatedTodo);
+        when(todoService.update(anyString(), eq(todoId), any(TodoRequest.class), isNull())).thenReturn(updatedTodo);
 
         // Act
-        ResponseEntity<TodoView> response = todoController.update(stubJwt, todoId, todoRequest_valid_fromClient);
+        ResponseEntity<TodoView> response = todoController.update(stubJwt, todoId, null, todoRequest_valid_fromClient);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(OK);
@@ -115,16 +217,42 @@ class TodoControllerCoreUnitTest {
         // Arrange
         Long todoId = 1L;
         TodoView updatedTodo = todoView_expected_fromTodoPatchDone;
-        when(todoService.patch(anyString(), eq(todoId), any(TodoPatch.class))).thenReturn(updatedTodo);
+        when(todoService.patch(anyString(), eq(todoId), any(TodoPatch.class), isNull())).thenReturn(updatedTodo);
+
+        // Act
+        ResponseEntity<TodoView> response = todoController.patch(stubJwt, todoId, null, todoPatch_done_fromClient);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).isEqualTo(updatedTodo);
+    }
+
+    @Test
+    void givenIfMatch_whenPatchTodo_thenExpectedVersionIsPassedAndNextVersionIsTagged() {
+        // Arrange
+        Long todoId = 1L;
+        TodoView updatedTodo = todoView_expected_fromTodoPatchDoneAtNextVersion;
+        when(todoService.patch(anyString(), eq(todoId), any(TodoPatch.class), eq(VALID_TODO_VERSION))).thenReturn(updatedTodo);
 
         // Act
-        ResponseEntity<TodoView> response = todoController.patch(stubJwt, todoId, todoPatch_done_fromClient);
+        ResponseEntity<TodoView> response = todoController.patch(stubJwt, todoId, ETAG_VALID_TODO_VERSION, todoPatch_done_fromClient);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG_NEXT_TODO_VERSION);
         assertThat(response.getBody()).isEqualTo(updatedTodo);
     }
 
+    @Test
+    void givenWeakIfMatch_whenDeleteTodo_thenPreconditionFailsWithoutDeleting() {
+        // Act & Assert
+        assertThatThrownBy(() -> todoController.delete(stubJwt, 1L, ETAG_VALID_OWNER_VERSION))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(PRECONDITION_FAILED);
+        verifyNoInteractions(todoService);
+    }
+
     @Test
     @Tag("Story=TBS1")
     void givenValidInput_whenReadAllPendingTodos_thenOkIsReturned() {
@@ -132,25 +260,130 @@ class TodoControllerCoreUnitTest {
         List<TodoView> pendingTodos = List.of(todoView_pending1_fromRepository, todoView_pending2_fromRepository);
         Page<TodoView> pendingTodosPage = new PageImpl<>(pendingTodos, pageable_firstPageSize10_fromClient, pendingTodos.size());
         PageResponse<TodoView> pendingTodosPageResponse = new PageResponse<>(pendingTodosPage);
-        when(todoService.readAllPending(anyString(), eq(pageable_firstPageSize10_fromClient))).thenReturn(pendingTodosPageResponse);
+        when(todoService.readAllPending(anyString(), eq(pageable_firstPageSize10_restrictedById)))
+                .thenReturn(new VersionedTodoPage(VALID_OWNER_VERSION, pendingTodosPageResponse));
 
         // Act
-        ResponseEntity<PageResponse<TodoView>> response = todoController.readAllPending(stubJwt, pageable_firstPageSize10_fromClient);
+        ResponseEntity<PageResponse<TodoView>> response = todoController.readAllPending(stubJwt, pageable_firstPageSize10_fromClient,
+                new ServletWebRequest(new MockHttpServletRequest()));
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(OK);
         assertThat(response.getBody()).isEqualTo(pendingTodosPageResponse);
     }
 
+    @Test
+    void givenSyncToken_whenReadChanges_thenChangesSinceAreReturned() {
+        // Arrange
+        TodoChangePage changePage = todoChangePage_fromSyncToken;
+        when(todoSyncService.readChanges(JWT_SUBJECT_VALID_USER_ID, SYNC_TOKEN_VALID, 100)).thenReturn(changePage);
+
+        // Act
+        ResponseEntity<TodoChangePage> response = todoController.readChanges(stubJwt, SYNC_TOKEN_VALID, 100);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).isEqualTo(changePage);
+    }
+
+    @Test
+    void givenValidInput_whenStreamChanges_thenOwnerFeedIsReturned() {
+        // Arrange
+        SseEmitter ownerFeed = new SseEmitter();
+        when(todoChangeFeed.subscribe(JWT_SUBJECT_VALID_USER_ID)).thenReturn(ownerFeed);
+
+        // Act
+        SseEmitter response = todoController.streamChanges(stubJwt);
+
+        // Assert
+        assertThat(response).isSameAs(ownerFeed);
+    }
+
     @Test
     void givenValidInput_whenDeleteTodo_thenOkIsReturned() {
         // Arrange
         Long todoId = 1L;
 
         // Act
-        ResponseEntity<Void> response = todoController.delete(stubJwt, todoId);
+        ResponseEntity<Void> response = todoController.delete(stubJwt, todoId, ETAG_VALID_TODO_VERSION);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(NO_CONTENT);
+        verify(todoService).delete(JWT_SUBJECT_VALID_USER_ID, todoId, VALID_TODO_VERSION);
+    }
+
+    @Test
+    void givenOwnerTodos_whenExportAll_thenTodosAreStreamedAsNdjson() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<TodoView> sink = invocation.getArgument(1);
+            sink.accept(todoView_instance1_fromRepository);
+            sink.accept(todoView_instance2_fromRepository);
+            return null;
+        }).when(todoService).exportAll(eq(JWT_SUBJECT_VALID_USER_ID), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = todoController.exportAll(stubJwt);
+        response.getBody().writeTo(outputStream);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("todos.ndjson");
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(2)
+                .allMatch(line -> line.startsWith("{\"Id\":") && line.endsWith("}"));
+    }
+
+    @Test
+    void givenOwnerTodos_whenExportAllAsCsv_thenHeaderAndOneRowPerTodoAreStreamed() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<TodoView> sink = invocation.getArgument(1);
+            sink.accept(todoView_instance1_fromRepository);
+            return null;
+        }).when(todoService).exportAll(eq(JWT_SUBJECT_VALID_USER_ID), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = todoController.exportAllAsCsv(stubJwt);
+        response.getBody().writeTo(outputStream);
+
+        // Assert
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("text/csv"));
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "Id,Title,Description,IsCompleted,DueDate",
+                "1,Task 1,Description 1,false," + DATE_IN_THE_FUTURE);
+    }
+
+    @Test
+    void givenClientDisconnects_whenExportAll_thenWriteFailureIsRethrown() {
+        // Arrange
+        doThrow(new UncheckedIOException(new IOException("Broken pipe")))
+                .when(todoService).exportAll(eq(JWT_SUBJECT_VALID_USER_ID), any());
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = todoController.exportAll(stubJwt);
+
+        // Assert
+        assertThatThrownBy(() -> response.getBody().writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    @Test
+    void givenNdjsonUpload_whenImportAll_thenImportReportIsReturned() throws IOException {
+        // Arrange
+        ByteArrayInputStream ndjson = new ByteArrayInputStream(new byte[0]);
+        TodoImportReport importReport = new TodoImportReport(0L, 0L, List.of());
+        when(todoImportService.importAll(JWT_SUBJECT_VALID_USER_ID, ndjson)).thenReturn(importReport);
+
+        // Act
+        ResponseEntity<TodoImportReport> response = todoController.importAll(stubJwt, ndjson);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).isEqualTo(importReport);
     }
 }
@@ -0,0 +1,88 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.API_PATH_TODO_IMPORT;
+import static com.niolikon.taskboard.service.todo.controller.testdata.TodoControllerTestData.VALID_USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports an upload of several chunks through the web layer, where an EntityManager bound to the request would keep
+ * every stored chunk managed, and checks that each chunk is stored in a persistence context of its own.
+ */
+@SpringBootTest(properties = "taskboard.import.chunk-size=" + TodoControllerImportIT.CHUNK_SIZE)
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgreSQLTestContainersConfig.class, TodoControllerImportIT.PersistenceContextProbe.class})
+class TodoControllerImportIT {
+    static final int CHUNK_SIZE = 20;
+    private static final int CHUNK_COUNT = 5;
+    private static final String OWNER_UID = "import-it-owner";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersistenceContextProbe persistenceContextProbe;
+
+    @Test
+    void givenUploadOfSeveralChunks_whenImported_thenThePersistenceContextHoldsAtMostOneChunk() throws Exception {
+        // Arrange
+        int todoCount = CHUNK_SIZE * CHUNK_COUNT;
+        String ndjson = IntStream.range(0, todoCount)
+                .mapToObj(index -> "{\"Title\":\"Task " + index + "\",\"Description\":\"Imported todo\",\"IsCompleted\":false,"
+                        + "\"DueDate\":\"" + LocalDate.now().plusDays(10) + "\"}")
+                .collect(Collectors.joining("\n"));
+
+        // Act
+        mockMvc.perform(post(API_PATH_TODO_IMPORT)
+                        .with(jwt().jwt(jwt -> jwt.subject(OWNER_UID)).authorities(new SimpleGrantedAuthority(VALID_USER_ROLE)))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Imported").value(todoCount));
+
+        // Assert
+        // A chunk's todos and their outbox messages
+        assertThat(persistenceContextProbe.maxManagedEntities.get()).isPositive().isLessThanOrEqualTo(2 * CHUNK_SIZE);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class PersistenceContextProbe {
+        private final AtomicInteger maxManagedEntities = new AtomicInteger();
+
+        @PersistenceContext
+        private EntityManager entityManager;
+
+        // Runs inside the transaction storing the chunk, after its todos are persisted
+        @EventListener
+        public void onTodoEvent(TodoEvent event) {
+            int managedEntities = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            maxManagedEntities.accumulateAndGet(managedEntities, Math::max);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.niolikon.taskboard.service.todo.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.niolikon.taskboard.service.config.SecurityConfig;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
 import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -20,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.web.util.UriTemplate;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -28,6 +32,7 @@ import static com.niolikon.taskboard.service.todo.controller.testdata.TodoContro
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +50,15 @@ class TodoControllerRelaySliceTest {
     @MockitoBean
     private ITodoService todoService;
 
+    @MockitoBean
+    private ITodoImportService todoImportService;
+
+    @MockitoBean
+    private ITodoChangeFeed todoChangeFeed;
+
+    @MockitoBean
+    private ITodoSyncService todoSyncService;
+
     @TestConfiguration
     static class TestSecurityBeans {
         @Bean
@@ -62,59 +76,164 @@ class TodoControllerRelaySliceTest {
                 .thenReturn(todoView_expected_fromTodoRequest);
         Consumer<ITodoService> createTodoServiceMockVerify = service -> verify(service).create(eq(VALID_USER_ID), any());
 
+        MockHttpServletRequestBuilder createAllRequest = post(API_PATH_TODO_BATCH)
+                .with(jwtRequest_withValidRole)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(todoRequest_valid_fromClient, todoRequest_valid_fromClient)));
+        Consumer<ITodoService> createAllTodoServiceMockSetup = service -> when(service.createAll(eq(VALID_USER_ID), any()))
+                .thenReturn(List.of(todoView_expected_fromTodoRequest, todoView_expected_fromTodoRequest));
+        Consumer<ITodoService> createAllTodoServiceMockVerify = service -> verify(service).createAll(eq(VALID_USER_ID), any());
+
         MockHttpServletRequestBuilder readAllRequest = get(API_PATH_TODO_BASE)
                 .with(jwtRequest_withValidRole);
         Consumer<ITodoService> readAllServiceMockSetup = service -> when(service.readAll(eq(VALID_USER_ID), any()))
-                .thenReturn(pageResponseTodoView_empty_fromRepository);
+                .thenReturn(versionedTodoPage_empty_fromRepository);
         Consumer<ITodoService> readAllServiceMockVerify = service -> verify(service).readAll(eq(VALID_USER_ID), any());
 
+        MockHttpServletRequestBuilder readAllAfterRequest = get(API_PATH_TODO_BASE)
+                .param(REQUEST_PARAM_TODO_AFTER, "")
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllAfterServiceMockSetup = service -> when(service.readAll(eq(VALID_USER_ID), eq(""), any()))
+                .thenReturn(cursorPageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllAfterServiceMockVerify = service -> verify(service).readAll(eq(VALID_USER_ID), eq(""), any());
+
+        MockHttpServletRequestBuilder readAllWithoutTotalRequest = get(API_PATH_TODO_BASE)
+                .param(REQUEST_PARAM_TODO_WITH_TOTAL, "false")
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllWithoutTotalServiceMockSetup = service -> when(service.readAllWithoutTotal(eq(VALID_USER_ID), any()))
+                .thenReturn(sliceResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllWithoutTotalServiceMockVerify = service -> verify(service).readAllWithoutTotal(eq(VALID_USER_ID), any());
+
+        MockHttpServletRequestBuilder readAllWithEstimatedTotalRequest = get(API_PATH_TODO_BASE)
+                .param(REQUEST_PARAM_TODO_WITH_TOTAL, "estimated")
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllWithEstimatedTotalServiceMockSetup = service -> when(service.readAllWithEstimatedTotal(eq(VALID_USER_ID), any()))
+                .thenReturn(pageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllWithEstimatedTotalServiceMockVerify = service -> verify(service).readAllWithEstimatedTotal(eq(VALID_USER_ID), any());
+
         MockHttpServletRequestBuilder readRequest = get(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
                 .with(jwtRequest_withValidRole);
         Consumer<ITodoService> readServiceMockSetup = service -> when(service.read(VALID_USER_ID, VALID_TODO_ASSIGNED_ID))
                 .thenReturn(todoView_expected_fromTodoRequest);
         Consumer<ITodoService> readServiceMockVerify = service -> verify(service).read(VALID_USER_ID, VALID_TODO_ASSIGNED_ID);
 
+        MockHttpServletRequestBuilder readSummaryRequest = get(API_PATH_TODO_SUMMARY)
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readSummaryServiceMockSetup = service -> when(service.readSummary(VALID_USER_ID))
+                .thenReturn(todoSummary_expected_fromCounters);
+        Consumer<ITodoService> readSummaryServiceMockVerify = service -> verify(service).readSummary(VALID_USER_ID);
+
         MockHttpServletRequestBuilder updateRequest = put(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
                 .with(jwtRequest_withValidRole)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(todoRequest_valid_fromClient));
-        Consumer<ITodoService> updateServiceMockSetup = service -> when(service.update(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any()))
+        Consumer<ITodoService> updateServiceMockSetup = service -> when(service.update(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any(), isNull()))
                 .thenReturn(todoView_expected_fromTodoRequest);
-        Consumer<ITodoService> updateServiceMockVerify = service -> verify(service).update(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any());
+        Consumer<ITodoService> updateServiceMockVerify = service -> verify(service).update(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any(), isNull());
 
         MockHttpServletRequestBuilder patchRequest = patch(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
                 .with(jwtRequest_withValidRole)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(todoPatch_valid_fromClient));
-        Consumer<ITodoService> patchServiceMockSetup = service -> when(service.patch(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any()))
+        Consumer<ITodoService> patchServiceMockSetup = service -> when(service.patch(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any(), isNull()))
                 .thenReturn(todoView_expected_fromTodoPatch);
-        Consumer<ITodoService> patchServiceMockVerify = service -> verify(service).patch(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any());
+        Consumer<ITodoService> patchServiceMockVerify = service -> verify(service).patch(eq(VALID_USER_ID), eq(VALID_TODO_ASSIGNED_ID), any(), isNull());
+
+        MockHttpServletRequestBuilder patchAllRequest = patch(API_PATH_TODO_BASE)
+                .with(jwtRequest_withValidRole)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(todoBulkPatch_valid_fromClient));
+        Consumer<ITodoService> patchAllServiceMockSetup = service -> when(service.patchAll(eq(VALID_USER_ID), any()))
+                .thenReturn(List.of());
+        Consumer<ITodoService> patchAllServiceMockVerify = service -> verify(service).patchAll(eq(VALID_USER_ID), any());
 
         MockHttpServletRequestBuilder readAllPendingRequest = get(API_PATH_TODO_PENDING)
                 .with(jwtRequest_withValidRole);
         Consumer<ITodoService> readAllPendingServiceMockSetup = service -> when(service.readAllPending(eq(VALID_USER_ID), any()))
-                .thenReturn(pageResponseTodoView_empty_fromRepository);
+                .thenReturn(versionedTodoPage_empty_fromRepository);
         Consumer<ITodoService> readAllPendingServiceMockVerify = service -> verify(service).readAllPending(eq(VALID_USER_ID), any());
 
+        MockHttpServletRequestBuilder readAllPendingAfterRequest = get(API_PATH_TODO_PENDING)
+                .param(REQUEST_PARAM_TODO_AFTER, "")
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllPendingAfterServiceMockSetup = service -> when(service.readAllPending(eq(VALID_USER_ID), eq(""), any()))
+                .thenReturn(cursorPageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllPendingAfterServiceMockVerify = service -> verify(service).readAllPending(eq(VALID_USER_ID), eq(""), any());
+
         MockHttpServletRequestBuilder readAllCompletedRequest = get(API_PATH_TODO_COMPLETED)
                 .with(jwtRequest_withValidRole);
         Consumer<ITodoService> readAllCompletedServiceMockSetup = service -> when(service.readAllCompleted(eq(VALID_USER_ID), any()))
-                .thenReturn(pageResponseTodoView_empty_fromRepository);
+                .thenReturn(versionedTodoPage_empty_fromRepository);
         Consumer<ITodoService> readAllCompletedServiceMockVerify = service -> verify(service).readAllCompleted(eq(VALID_USER_ID), any());
 
+        MockHttpServletRequestBuilder readAllCompletedAfterRequest = get(API_PATH_TODO_COMPLETED)
+                .param(REQUEST_PARAM_TODO_AFTER, "")
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllCompletedAfterServiceMockSetup = service -> when(service.readAllCompleted(eq(VALID_USER_ID), eq(""), any()))
+                .thenReturn(cursorPageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllCompletedAfterServiceMockVerify = service -> verify(service).readAllCompleted(eq(VALID_USER_ID), eq(""), any());
+
+        MockHttpServletRequestBuilder readAllArchivedRequest = get(API_PATH_TODO_ARCHIVED)
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllArchivedServiceMockSetup = service -> when(service.readAllArchived(eq(VALID_USER_ID), any()))
+                .thenReturn(pageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllArchivedServiceMockVerify = service -> verify(service).readAllArchived(eq(VALID_USER_ID), any());
+
+        MockHttpServletRequestBuilder readAllOverdueRequest = get(API_PATH_TODO_OVERDUE)
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllOverdueServiceMockSetup = service -> when(service.readAllOverdue(eq(VALID_USER_ID), any()))
+                .thenReturn(pageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllOverdueServiceMockVerify = service -> verify(service).readAllOverdue(eq(VALID_USER_ID), any());
+
+        MockHttpServletRequestBuilder readAllDueRequest = get(API_PATH_TODO_DUE)
+                .param(REQUEST_PARAM_TODO_FROM, DATE_IN_THE_PAST.toString())
+                .param(REQUEST_PARAM_TODO_TO, DATE_IN_THE_FUTURE.toString())
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> readAllDueServiceMockSetup = service -> when(service.readAllDue(eq(VALID_USER_ID), eq(DATE_IN_THE_PAST), eq(DATE_IN_THE_FUTURE), any()))
+                .thenReturn(pageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> readAllDueServiceMockVerify = service -> verify(service).readAllDue(eq(VALID_USER_ID), eq(DATE_IN_THE_PAST), eq(DATE_IN_THE_FUTURE), any());
+
+        MockHttpServletRequestBuilder searchRequest = get(API_PATH_TODO_SEARCH)
+                .param(REQUEST_PARAM_TODO_QUERY, VALID_TODO_TITLE)
+                .with(jwtRequest_withValidRole);
+        Consumer<ITodoService> searchServiceMockSetup = service -> when(service.search(eq(VALID_USER_ID), eq(VALID_TODO_TITLE), any()))
+                .thenReturn(pageResponseTodoView_empty_fromRepository);
+        Consumer<ITodoService> searchServiceMockVerify = service -> verify(service).search(eq(VALID_USER_ID), eq(VALID_TODO_TITLE), any());
+
         MockHttpServletRequestBuilder deleteRequest = delete(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID))
                 .with(jwtRequest_withValidRole);
-        Consumer<ITodoService> deleteServiceMockVerify = service -> verify(service).delete(eq(VALID_USER_ID), any());
+        Consumer<ITodoService> deleteServiceMockVerify = service -> verify(service).delete(eq(VALID_USER_ID), any(), isNull());
+
+        MockHttpServletRequestBuilder deleteAllRequest = delete(API_PATH_TODO_BASE)
+                .with(jwtRequest_withValidRole)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(todoBulkDelete_valid_fromClient));
+        Consumer<ITodoService> deleteAllServiceMockSetup = service -> when(service.deleteAll(eq(VALID_USER_ID), any()))
+                .thenReturn(List.of());
+        Consumer<ITodoService> deleteAllServiceMockVerify = service -> verify(service).deleteAll(eq(VALID_USER_ID), any());
 
         return Stream.of(
                 Arguments.of(createRequest, createTodoServiceMockSetup, createTodoServiceMockVerify),
+                Arguments.of(createAllRequest, createAllTodoServiceMockSetup, createAllTodoServiceMockVerify),
                 Arguments.of(readAllRequest, readAllServiceMockSetup, readAllServiceMockVerify),
+                Arguments.of(readAllAfterRequest, readAllAfterServiceMockSetup, readAllAfterServiceMockVerify),
+                Arguments.of(readAllWithoutTotalRequest, readAllWithoutTotalServiceMockSetup, readAllWithoutTotalServiceMockVerify),
+                Arguments.of(readAllWithEstimatedTotalRequest, readAllWithEstimatedTotalServiceMockSetup, readAllWithEstimatedTotalServiceMockVerify),
                 Arguments.of(readRequest, readServiceMockSetup, readServiceMockVerify),
+                Arguments.of(readSummaryRequest, readSummaryServiceMockSetup, readSummaryServiceMockVerify),
                 Arguments.of(updateRequest, updateServiceMockSetup, updateServiceMockVerify),
                 Arguments.of(patchRequest, patchServiceMockSetup, patchServiceMockVerify),
+                Arguments.of(patchAllRequest, patchAllServiceMockSetup, patchAllServiceMockVerify),
                 Arguments.of(readAllPendingRequest, readAllPendingServiceMockSetup, readAllPendingServiceMockVerify),
+                Arguments.of(readAllPendingAfterRequest, readAllPendingAfterServiceMockSetup, readAllPendingAfterServiceMockVerify),
                 Arguments.of(readAllCompletedRequest, readAllCompletedServiceMockSetup, readAllCompletedServiceMockVerify),
-                Arguments.of(deleteRequest, null, deleteServiceMockVerify)
+                Arguments.of(readAllCompletedAfterRequest, readAllCompletedAfterServiceMockSetup, readAllCompletedAfterServiceMockVerify),
+                Arguments.of(readAllArchivedRequest, readAllArchivedServiceMockSetup, readAllArchivedServiceMockVerify),
+                Arguments.of(readAllOverdueRequest, readAllOverdueServiceMockSetup, readAllOverdueServiceMockVerify),
+                Arguments.of(readAllDueRequest, readAllDueServiceMockSetup, readAllDueServiceMockVerify),
+                Arguments.of(searchRequest, searchServiceMockSetup, searchServiceMockVerify),
+                Arguments.of(deleteRequest, null, deleteServiceMockVerify),
+                Arguments.of(deleteAllRequest, deleteAllServiceMockSetup, deleteAllServiceMockVerify)
         );
     }
 
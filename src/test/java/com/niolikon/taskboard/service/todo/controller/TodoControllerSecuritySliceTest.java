@@ -3,7 +3,10 @@ package com.niolikon.taskboard.service.todo.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.niolikon.taskboard.service.config.SecurityConfig;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
 import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -40,6 +43,15 @@ class TodoControllerSecuritySliceTest {
     @MockitoBean
     private ITodoService todoService;
 
+    @MockitoBean
+    private ITodoImportService todoImportService;
+
+    @MockitoBean
+    private ITodoChangeFeed todoChangeFeed;
+
+    @MockitoBean
+    private ITodoSyncService todoSyncService;
+
     @TestConfiguration
     static class TestSecurityBeans {
         @Bean
@@ -62,6 +74,8 @@ class TodoControllerSecuritySliceTest {
                 .content(objectMapper.writeValueAsString(todoPatch_valid_fromClient));
         MockHttpServletRequestBuilder readAllPendingRequest = get(API_PATH_TODO_PENDING);
         MockHttpServletRequestBuilder readAllCompletedRequest = get(API_PATH_TODO_COMPLETED);
+        MockHttpServletRequestBuilder readChangesRequest = get(API_PATH_TODO_CHANGES);
+        MockHttpServletRequestBuilder streamChangesRequest = get(API_PATH_TODO_EVENTS).accept(MediaType.TEXT_EVENT_STREAM);
         MockHttpServletRequestBuilder deleteRequest = delete(new UriTemplate(API_PATH_TODO_BY_ID).expand(VALID_TODO_ASSIGNED_ID));
 
         return Stream.of(
@@ -72,6 +86,8 @@ class TodoControllerSecuritySliceTest {
                 Arguments.of(patchRequest),
                 Arguments.of(readAllPendingRequest),
                 Arguments.of(readAllCompletedRequest),
+                Arguments.of(readChangesRequest),
+                Arguments.of(streamChangesRequest),
                 Arguments.of(deleteRequest)
         );
     }
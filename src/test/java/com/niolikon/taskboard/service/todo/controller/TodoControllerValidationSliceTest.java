@@ -2,13 +2,20 @@ package com.niolikon.taskboard.service.todo.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.niolikon.taskboard.service.config.SecurityConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.feed.ITodoChangeFeed;
+import com.niolikon.taskboard.service.todo.service.ITodoImportService;
 import com.niolikon.taskboard.service.todo.service.ITodoService;
+import com.niolikon.taskboard.service.todo.service.ITodoSyncService;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -21,7 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.web.util.UriTemplate;
 
-import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.*;
@@ -42,6 +49,15 @@ class TodoControllerValidationSliceTest {
     @MockitoBean
     private ITodoService todoService;
 
+    @MockitoBean
+    private ITodoImportService todoImportService;
+
+    @MockitoBean
+    private ITodoChangeFeed todoChangeFeed;
+
+    @MockitoBean
+    private ITodoSyncService todoSyncService;
+
     @TestConfiguration
     static class TestSecurityBeans {
         @Bean
@@ -51,20 +67,20 @@ class TodoControllerValidationSliceTest {
     }
 
     Stream<Arguments> provideInvalidTodoPatch() {
-        TodoPatch patchWithPastDueDate = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, false, Date.from(INSTANT_IN_THE_PAST));
+        TodoPatch patchWithPastDueDate = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, false, DATE_IN_THE_PAST);
         return Stream.of(
                 Arguments.of(patchWithPastDueDate)
         );
     }
 
     Stream<Arguments> provideInvalidTodoRequests() {
-        TodoRequest requestWithNullTitle = new TodoRequest(null, VALID_TODO_DESCRIPTION, false, Date.from(INSTANT_IN_THE_FUTURE));
-        TodoRequest requestWithEmptyTitle = new TodoRequest("", VALID_TODO_DESCRIPTION, false, Date.from(INSTANT_IN_THE_FUTURE));
-        TodoRequest requestWithNullDescription = new TodoRequest(VALID_TODO_TITLE, null, false, Date.from(INSTANT_IN_THE_FUTURE));
-        TodoRequest requestWithEmptyDescription = new TodoRequest(VALID_TODO_TITLE, "", false, Date.from(INSTANT_IN_THE_FUTURE));
-        TodoRequest requestWithNullIsCompleted = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, null, Date.from(INSTANT_IN_THE_FUTURE));
+        TodoRequest requestWithNullTitle = new TodoRequest(null, VALID_TODO_DESCRIPTION, false, DATE_IN_THE_FUTURE);
+        TodoRequest requestWithEmptyTitle = new TodoRequest("", VALID_TODO_DESCRIPTION, false, DATE_IN_THE_FUTURE);
+        TodoRequest requestWithNullDescription = new TodoRequest(VALID_TODO_TITLE, null, false, DATE_IN_THE_FUTURE);
+        TodoRequest requestWithEmptyDescription = new TodoRequest(VALID_TODO_TITLE, "", false, DATE_IN_THE_FUTURE);
+        TodoRequest requestWithNullIsCompleted = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, null, DATE_IN_THE_FUTURE);
         TodoRequest requestWithNullDueDate = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, false, null);
-        TodoRequest requestWithPastDueDate = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, false, Date.from(INSTANT_IN_THE_PAST));
+        TodoRequest requestWithPastDueDate = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, false, DATE_IN_THE_PAST);
         return Stream.of(
                 Arguments.of(requestWithNullTitle),
                 Arguments.of(requestWithEmptyTitle),
@@ -130,4 +146,110 @@ class TodoControllerValidationSliceTest {
                         .content(objectMapper.writeValueAsString(invalidTodoRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidTodoRequests")
+    void givenBatchWithInvalidTodoRequest_whenCreateAll_thenReturnsBadRequest(TodoRequest invalidTodoRequest) throws Exception {
+        mockMvc.perform(post(API_PATH_TODO_BATCH)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(todoRequest_valid_fromClient, invalidTodoRequest))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenEmptyBatch_whenCreateAll_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(post(API_PATH_TODO_BATCH)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenBulkPatchWithoutIds_whenPatchAll_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(patch(API_PATH_TODO_BASE)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoBulkPatch(List.of(), todoPatch_valid_fromClient))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidTodoPatch")
+    void givenBulkPatchWithInvalidTodoPatch_whenPatchAll_thenReturnsBadRequest(TodoPatch invalidTodoPatch) throws Exception {
+        mockMvc.perform(patch(API_PATH_TODO_BASE)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoBulkPatch(List.of(VALID_TODO_ASSIGNED_ID), invalidTodoPatch))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenBulkDeleteWithoutIds_whenDeleteAll_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(delete(API_PATH_TODO_BASE)
+                        .with(jwtRequest_withValidRole)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoBulkDelete(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    void givenBlankQuery_whenSearch_thenReturnsBadRequest(String blankQuery) throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_SEARCH)
+                        .with(jwtRequest_withValidRole)
+                        .param(REQUEST_PARAM_TODO_QUERY, blankQuery))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenTooLongQuery_whenSearch_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_SEARCH)
+                        .with(jwtRequest_withValidRole)
+                        .param(REQUEST_PARAM_TODO_QUERY, "q".repeat(TODO_SEARCH_QUERY_MAX_LENGTH + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenMissingQuery_whenSearch_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_SEARCH)
+                        .with(jwtRequest_withValidRole))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TODO_CHANGES_MAX_SIZE + 1})
+    void givenSizeOutOfRange_whenReadChanges_thenReturnsBadRequest(int size) throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_CHANGES)
+                        .with(jwtRequest_withValidRole)
+                        .param(REQUEST_PARAM_TODO_SIZE, String.valueOf(size)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenMissingRangeEnd_whenReadAllDue_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_DUE)
+                        .with(jwtRequest_withValidRole)
+                        .param(REQUEST_PARAM_TODO_FROM, DATE_IN_THE_FUTURE.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenMalformedRangeStart_whenReadAllDue_thenReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_DUE)
+                        .with(jwtRequest_withValidRole)
+                        .param(REQUEST_PARAM_TODO_FROM, "29/03/2025")
+                        .param(REQUEST_PARAM_TODO_TO, DATE_IN_THE_FUTURE.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"description", "ownerUid", "title,asc,ignorecase"})
+    void givenUnindexedSort_whenReadAll_thenReturnsBadRequest(String sort) throws Exception {
+        mockMvc.perform(get(API_PATH_TODO_BASE)
+                        .with(jwtRequest_withValidRole)
+                        .param("sort", sort))
+                .andExpect(status().isBadRequest());
+    }
 }
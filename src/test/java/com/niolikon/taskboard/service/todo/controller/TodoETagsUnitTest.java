@@ -0,0 +1,69 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+
+class TodoETagsUnitTest {
+
+    @Test
+    void givenTodoETag_whenSentBackAsIfMatch_thenItsVersionIsExpected() {
+        // Arrange
+        String eTag = TodoETags.ofTodo(12L);
+
+        // Act
+        Long expectedVersion = TodoETags.expectedVersion(eTag);
+
+        // Assert
+        assertThat(eTag).isEqualTo("\"12\"");
+        assertThat(expectedVersion).isEqualTo(12L);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " ", "*"})
+    void givenMissingOrWildcardIfMatch_whenExpectedVersion_thenAnyVersionIsAccepted(String ifMatch) {
+        // Act
+        Long expectedVersion = TodoETags.expectedVersion(ifMatch);
+
+        // Assert
+        assertThat(expectedVersion).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"12\"", "12", "\"\"", "\"abc\"", "\"12\", \"13\""})
+    void givenWeakMalformedOrMultipleTags_whenExpectedVersion_thenPreconditionFails(String ifMatch) {
+        // Act & Assert
+        assertThatThrownBy(() -> TodoETags.expectedVersion(ifMatch))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(PRECONDITION_FAILED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"7\"", "\"7\"", "*", "W/\"6\", W/\"7\""})
+    void givenIfNoneMatchListingListTag_whenAnyMatches_thenItMatches(String ifNoneMatch) {
+        // Act
+        boolean matches = TodoETags.anyMatches(new String[]{ifNoneMatch}, TodoETags.ofList(7L));
+
+        // Assert
+        assertThat(matches).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"W/\"6\"", "\"70\"", "W/\"6\", \"8\""})
+    void givenIfNoneMatchNotListingListTag_whenAnyMatches_thenItDoesNotMatch(String ifNoneMatch) {
+        // Act
+        boolean matches = TodoETags.anyMatches((ifNoneMatch == null) ? null : new String[]{ifNoneMatch}, TodoETags.ofList(7L));
+
+        // Assert
+        assertThat(matches).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.niolikon.taskboard.service.todo.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.server.ResponseStatusException;
+
+import static com.niolikon.taskboard.service.todo.controller.TodoApiPaths.TODO_PAGE_MAX_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+class TodoPageablePolicyUnitTest {
+
+    @Test
+    void givenUnsortedPage_whenRestricted_thenSortedByIdAscending() {
+        // Arrange
+        Pageable pageable = PageRequest.of(2, 20);
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable);
+
+        // Assert
+        assertThat(result).isEqualTo(PageRequest.of(2, 20, Sort.by("id")));
+    }
+
+    @Test
+    void givenDescendingDueDateSort_whenRestricted_thenIdTiebreakerFollowsItsDirection() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dueDate"));
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable);
+
+        // Assert
+        assertThat(result.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "dueDate", "id"));
+    }
+
+    @Test
+    void givenKeysAfterId_whenRestricted_thenTheyAreDropped() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title", "id", "dueDate"));
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable);
+
+        // Assert
+        assertThat(result.getSort()).isEqualTo(Sort.by("title", "id"));
+    }
+
+    @Test
+    void givenUnsortedPage_whenRestrictedWithDefaultSort_thenDefaultSortIsUsed() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable, Sort.by("dueDate"));
+
+        // Assert
+        assertThat(result.getSort()).isEqualTo(Sort.by("dueDate", "id"));
+    }
+
+    @Test
+    void givenSortedPage_whenRestrictedWithDefaultSort_thenClientSortIsKept() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable, Sort.by("dueDate"));
+
+        // Assert
+        assertThat(result.getSort()).isEqualTo(Sort.by("title", "id"));
+    }
+
+    @Test
+    void givenOversizedPage_whenRestricted_thenPageSizeIsCapped() {
+        // Arrange
+        Pageable pageable = PageRequest.of(3, 500);
+
+        // Act
+        Pageable result = TodoPageablePolicy.restricted(pageable);
+
+        // Assert
+        assertThat(result.getPageSize()).isEqualTo(TODO_PAGE_MAX_SIZE);
+        assertThat(result.getPageNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void givenUnindexedProperty_whenRestricted_thenBadRequestIsThrown() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> TodoPageablePolicy.restricted(pageable))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    void givenCaseInsensitiveOrder_whenRestricted_thenBadRequestIsThrown() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title").ignoreCase()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> TodoPageablePolicy.restricted(pageable))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(BAD_REQUEST);
+    }
+}
@@ -5,17 +5,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
-import java.time.ZoneOffset;
-import java.util.Date;
 import java.util.List;
 
 public class MultipleTodosWithPaginationTestScenario {
     public static final String USER_UUID = "user_uuid";
-    public static final Date DUE_DATE = Date.from(
-            LocalDate.of(2025,3, 29)
-                    .atStartOfDay(ZoneOffset.UTC)
-                    .toInstant()
-    );
+    public static final LocalDate DUE_DATE = LocalDate.of(2025, 3, 29);
 
     public static List<Object> getDataset() {
         return List.of(
@@ -1,7 +1,6 @@
 package com.niolikon.taskboard.service.todo.controller.scenarios;
 
-import java.time.Instant;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 import com.niolikon.taskboard.service.todo.model.Todo;
@@ -14,7 +13,7 @@ public class SingleTodoTestScenario {
                 Todo.builder()
                         .title("Example Todo")
                         .description("Example description")
-                        .dueDate(Date.from(Instant.now()))
+                        .dueDate(LocalDate.now())
                         .isCompleted(Boolean.FALSE)
                         .ownerUid(USER_UUID)
                         .build()
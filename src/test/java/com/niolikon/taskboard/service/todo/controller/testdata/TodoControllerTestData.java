@@ -1,18 +1,26 @@
 package com.niolikon.taskboard.service.todo.controller.testdata;
 
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.data.dto.CursorPageResponse;
+import com.niolikon.taskboard.service.data.dto.SliceResponse;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -27,26 +35,48 @@ public class TodoControllerTestData {
     public static final Long VALID_TODO_ASSIGNED_ID = 42L;
     public static final String VALID_TODO_TITLE = "Title";
     public static final String VALID_TODO_DESCRIPTION = "Sample description";
-    public static final Instant INSTANT_IN_THE_FUTURE = Instant.now().plus(2, ChronoUnit.DAYS);
-    public static final Instant INSTANT_IN_THE_PAST = Instant.now().minus(10, ChronoUnit.SECONDS);
+    public static final LocalDate DATE_IN_THE_FUTURE = LocalDate.now().plusDays(2);
+    public static final LocalDate DATE_IN_THE_PAST = LocalDate.now().minusDays(1);
+    public static final long VALID_OWNER_VERSION = 7L;
+    public static final String ETAG_VALID_OWNER_VERSION = "W/\"7\"";
+    public static final long VALID_TODO_VERSION = 3L;
+    public static final String ETAG_VALID_TODO_VERSION = "\"3\"";
+    public static final String ETAG_NEXT_TODO_VERSION = "\"4\"";
+    public static final String SYNC_TOKEN_VALID = "eyJjaGFuZ2VkQXQiOiIyMDI1LTAxLTAxVDAwOjAwIiwiaWQiOjQyfQ";
+    public static final String SYNC_TOKEN_NEXT = "eyJjaGFuZ2VkQXQiOiIyMDI1LTAxLTAyVDAwOjAwIiwiaWQiOjB9";
 
-    public static final TodoRequest todoRequest_valid_fromClient = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
-    public static final TodoView todoView_expected_fromTodoRequest = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
+    public static final TodoRequest todoRequest_valid_fromClient = new TodoRequest(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_expected_fromTodoRequest = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_versioned_fromRepository = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, DATE_IN_THE_FUTURE, VALID_TODO_VERSION);
 
-    public static final TodoPatch todoPatch_valid_fromClient = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
-    public static final TodoView todoView_expected_fromTodoPatch = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
+    public static final TodoPatch todoPatch_valid_fromClient = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_expected_fromTodoPatch = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.FALSE, DATE_IN_THE_FUTURE);
 
-    public static final TodoPatch todoPatch_done_fromClient = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.TRUE, Date.from(INSTANT_IN_THE_FUTURE));
-    public static final TodoView todoView_expected_fromTodoPatchDone = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.TRUE, Date.from(INSTANT_IN_THE_FUTURE));
+    public static final TodoBulkPatch todoBulkPatch_valid_fromClient = new TodoBulkPatch(List.of(VALID_TODO_ASSIGNED_ID), todoPatch_valid_fromClient);
+    public static final TodoBulkDelete todoBulkDelete_valid_fromClient = new TodoBulkDelete(List.of(VALID_TODO_ASSIGNED_ID));
 
-    public static final TodoView todoView_instance1_fromRepository = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
-    public static final TodoView todoView_instance2_fromRepository = new TodoView(2L, "Task 2", "Description 2", Boolean.TRUE, Date.from(INSTANT_IN_THE_FUTURE));
+    public static final TodoPatch todoPatch_done_fromClient = new TodoPatch(VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.TRUE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_expected_fromTodoPatchDone = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.TRUE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_expected_fromTodoPatchDoneAtNextVersion = new TodoView(VALID_TODO_ASSIGNED_ID, VALID_TODO_TITLE, VALID_TODO_DESCRIPTION, Boolean.TRUE, DATE_IN_THE_FUTURE, VALID_TODO_VERSION + 1);
 
-    public static final TodoView todoView_pending1_fromRepository = new TodoView(1L, "Title", "A Description", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
-    public static final TodoView todoView_pending2_fromRepository = new TodoView(5L, "Title", "Another Description", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE));
+    public static final TodoChangePage todoChangePage_fromSyncToken = new TodoChangePage(List.of(
+            new TodoChange(VALID_TODO_ASSIGNED_ID, VALID_TODO_VERSION + 1, todoView_expected_fromTodoPatchDoneAtNextVersion),
+            new TodoChange(VALID_TODO_ASSIGNED_ID + 1, null, null)), SYNC_TOKEN_NEXT, true);
+
+    public static final TodoSummary todoSummary_expected_fromCounters = new TodoSummary(3L, 2L, 1L, 1L);
+
+    public static final TodoView todoView_instance1_fromRepository = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_instance2_fromRepository = new TodoView(2L, "Task 2", "Description 2", Boolean.TRUE, DATE_IN_THE_FUTURE);
+
+    public static final TodoView todoView_pending1_fromRepository = new TodoView(1L, "Title", "A Description", Boolean.FALSE, DATE_IN_THE_FUTURE);
+    public static final TodoView todoView_pending2_fromRepository = new TodoView(5L, "Title", "Another Description", Boolean.FALSE, DATE_IN_THE_FUTURE);
 
     public static final Pageable pageable_firstPageSize10_fromClient = PageRequest.of(0, 10);
+    public static final Pageable pageable_firstPageSize10_restrictedById = PageRequest.of(0, 10, Sort.by("id"));
     public static final PageResponse<TodoView> pageResponseTodoView_empty_fromRepository = new PageResponse<>(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+    public static final VersionedTodoPage versionedTodoPage_empty_fromRepository = new VersionedTodoPage(VALID_OWNER_VERSION, pageResponseTodoView_empty_fromRepository);
+    public static final SliceResponse<TodoView> sliceResponseTodoView_empty_fromRepository = new SliceResponse<>(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+    public static final CursorPageResponse<TodoView> cursorPageResponseTodoView_empty_fromRepository = new CursorPageResponse<>(List.of(), 0, 10, null, true);
 
     public static final RequestPostProcessor jwtRequest_withoutAuthorities = jwt().jwt(jwt -> jwt.subject(VALID_USER_ID));
     public static final RequestPostProcessor jwtRequest_withInvalidRole = jwt().jwt(jwt -> jwt.subject(VALID_USER_ID))
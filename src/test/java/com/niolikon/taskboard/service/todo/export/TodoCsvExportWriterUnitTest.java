@@ -0,0 +1,34 @@
+package com.niolikon.taskboard.service.todo.export;
+
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoCsvExportWriterUnitTest {
+
+    @Test
+    void givenFormulaLikeText_whenWritten_thenItIsPrefixedSoThatSpreadsheetsDoNotEvaluateIt() throws IOException {
+        // Arrange
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TodoCsvExportWriter csvWriter = new TodoCsvExportWriter(outputStream);
+
+        // Act
+        csvWriter.accept(new TodoView(1L, "=HYPERLINK(\"http://evil\")", "+1", Boolean.FALSE, null));
+        csvWriter.accept(new TodoView(2L, "@SUM(A1)", "-2,5", Boolean.TRUE, LocalDate.of(2025, 1, 20)));
+        csvWriter.accept(new TodoView(3L, "Pay 1+1 bills", "a = b", Boolean.FALSE, null));
+        csvWriter.flush();
+
+        // Assert
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "Id,Title,Description,IsCompleted,DueDate",
+                "1,\"'=HYPERLINK(\"\"http://evil\"\")\",'+1,false,",
+                "2,'@SUM(A1),\"'-2,5\",true,2025-01-20",
+                "3,Pay 1+1 bills,a = b,false,");
+    }
+}
@@ -0,0 +1,114 @@
+package com.niolikon.taskboard.service.todo.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoChangeFeedUnitTest {
+    private static final String OWNER_UID = "test-user-id";
+    private static final String OTHER_OWNER_UID = "other-user-id";
+    private static final int BUFFER_SIZE = 2;
+    private static final TodoView TODO = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE,
+            LocalDate.of(2025, 1, 3), 4L);
+
+    // Runs the sender tasks only when asked, standing in for a busy sender pool
+    private final Queue<Runnable> pendingSends = new ArrayDeque<>();
+    private final Queue<RecordingEmitter> emitters = new ArrayDeque<>();
+    private final TodoChangeFeed todoChangeFeed = new TodoChangeFeed(new ObjectMapper().findAndRegisterModules(),
+            () -> {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }, pendingSends::add, BUFFER_SIZE);
+
+    @Test
+    void givenSubscribedOwners_whenTodoIsUpdated_thenTheChangeIsPushedToItsOwnerOnly() {
+        // Arrange
+        RecordingEmitter ownerStream = (RecordingEmitter) todoChangeFeed.subscribe(OWNER_UID);
+        RecordingEmitter otherOwnerStream = (RecordingEmitter) todoChangeFeed.subscribe(OTHER_OWNER_UID);
+
+        // Act
+        todoChangeFeed.onTodoEvent(TodoEvent.updated(OWNER_UID, TODO, TODO));
+        runPendingSends();
+
+        // Assert
+        assertThat(ownerStream.sent).singleElement().satisfies(event -> assertThat(event)
+                .startsWith("event:updated\ndata:")
+                .contains("\"Id\":1", "\"Version\":4", "\"Title\":\"Task 1\""));
+        assertThat(otherOwnerStream.sent).isEmpty();
+    }
+
+    @Test
+    void givenSubscriberNotKeepingUp_whenItsBufferOverflows_thenItIsEvictedAndItsStreamCompleted() {
+        // Arrange
+        RecordingEmitter slowStream = (RecordingEmitter) todoChangeFeed.subscribe(OWNER_UID);
+
+        // Act
+        for (int i = 0; i <= BUFFER_SIZE; i++) {
+            todoChangeFeed.onTodoEvent(TodoEvent.created(OWNER_UID, TODO));
+        }
+        int subscribersAfterOverflow = todoChangeFeed.subscriberCount();
+        runPendingSends();
+        todoChangeFeed.onTodoEvent(TodoEvent.deleted(OWNER_UID, TODO));
+        runPendingSends();
+
+        // Assert
+        assertThat(subscribersAfterOverflow).isZero();
+        assertThat(slowStream.completed).isTrue();
+        assertThat(slowStream.sent).isEmpty();
+    }
+
+    @Test
+    void givenClientGone_whenHeartbeatFailsToBeWritten_thenItsSubscriberIsRemoved() {
+        // Arrange
+        RecordingEmitter goneStream = (RecordingEmitter) todoChangeFeed.subscribe(OWNER_UID);
+        todoChangeFeed.subscribe(OTHER_OWNER_UID);
+        goneStream.failing = true;
+
+        // Act
+        todoChangeFeed.heartbeat();
+        runPendingSends();
+
+        // Assert
+        assertThat(todoChangeFeed.subscriberCount()).isEqualTo(1);
+        assertThat(emitters).last().satisfies(stream -> assertThat(stream.sent).containsExactly(":heartbeat\n\n"));
+    }
+
+    private void runPendingSends() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.poll().run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
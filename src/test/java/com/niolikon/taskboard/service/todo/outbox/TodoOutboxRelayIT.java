@@ -0,0 +1,104 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.TodoOutboxRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import com.niolikon.taskboard.service.todo.service.ITodoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes todos on PostgreSQL, then drains the outbox with concurrent relays: thanks to {@code skip locked} they must
+ * publish every message exactly once, without waiting on each other's batches. The scheduled relay is off.
+ */
+@SpringBootTest(properties = "taskboard.outbox.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgreSQLTestContainersConfig.class, TodoOutboxRelayIT.RecordingPublisherConfig.class})
+class TodoOutboxRelayIT {
+    private static final String OWNER_UID = "outbox-owner";
+    private static final int TODO_COUNT = 400;
+    private static final int RELAY_COUNT = 4;
+    private static final int BATCH_SIZE = 25;
+
+    @Autowired
+    private ITodoService todoService;
+
+    @Autowired
+    private TodoOutboxRelay todoOutboxRelay;
+
+    @Autowired
+    private TodoOutboxRepository todoOutboxRepository;
+
+    @Autowired
+    private Queue<TodoOutboxMessage> publishedMessages;
+
+    @Test
+    void givenOutboxMessages_whenConcurrentRelaysDrainIt_thenEachMessageIsPublishedOnce() throws Exception {
+        // Arrange
+        todoOutboxRepository.deleteAllInBatch();
+        List<TodoView> todos = todoService.createAll(OWNER_UID, IntStream.range(0, TODO_COUNT)
+                .mapToObj(i -> new TodoRequest("Task " + i, "Description " + i, false, null))
+                .toList());
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool(RELAY_COUNT);
+        try {
+            List<Future<Integer>> relays = IntStream.range(0, RELAY_COUNT)
+                    .mapToObj(i -> executor.submit(this::drain))
+                    .toList();
+            for (Future<Integer> relay : relays) {
+                relay.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(publishedMessages)
+                .extracting(TodoOutboxMessage::getTodoId)
+                .containsExactlyInAnyOrderElementsOf(todos.stream().map(TodoView::getId).toList());
+        assertThat(publishedMessages).extracting(TodoOutboxMessage::getEventType).containsOnly("CREATED");
+        assertThat(todoOutboxRepository.count()).isZero();
+    }
+
+    private int drain() {
+        int relayedMessages = 0;
+        int batchMessages;
+        do {
+            batchMessages = todoOutboxRelay.relayBatch(BATCH_SIZE);
+            relayedMessages += batchMessages;
+        } while (batchMessages == BATCH_SIZE);
+        return relayedMessages;
+    }
+
+    @TestConfiguration
+    static class RecordingPublisherConfig {
+
+        @Bean
+        Queue<TodoOutboxMessage> publishedMessages() {
+            return new ConcurrentLinkedQueue<>();
+        }
+
+        @Bean
+        TodoOutboxPublisher recordingTodoOutboxPublisher(Queue<TodoOutboxMessage> publishedMessages) {
+            return publishedMessages::addAll;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.niolikon.taskboard.service.todo.TodoOutboxRepository;
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoOutboxRelayUnitTest {
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private TodoOutboxRepository todoOutboxRepository;
+
+    @Mock
+    private TodoOutboxPublisher todoOutboxPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TodoOutboxRelay todoOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        todoOutboxRelay = new TodoOutboxRelay(todoOutboxRepository, todoOutboxPublisher,
+                Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @Test
+    void givenOutboxMessages_whenRelayBatch_thenTheyArePublishedDeletedAndMetered() {
+        // Arrange
+        List<TodoOutboxMessage> messages = List.of(message(1L, NOW.minusSeconds(3)), message(2L, NOW.minusSeconds(1)));
+        when(todoOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(messages);
+
+        // Act
+        int relayedMessages = todoOutboxRelay.relayBatch(BATCH_SIZE);
+
+        // Assert
+        assertThat(relayedMessages).isEqualTo(2);
+        verify(todoOutboxPublisher).publish(messages);
+        verify(todoOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertThat(meterRegistry.get("taskboard.outbox.published").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("taskboard.outbox.lag").timer().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("taskboard.outbox.lag").timer().max(TimeUnit.SECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void givenFailingPublisher_whenRelayBatch_thenTheBatchIsKeptForRetry() {
+        // Arrange
+        List<TodoOutboxMessage> messages = List.of(message(1L, NOW.minusSeconds(3)));
+        when(todoOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(messages);
+        doThrow(new IllegalStateException("Broker unavailable")).when(todoOutboxPublisher).publish(messages);
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoOutboxRelay.relayBatch(BATCH_SIZE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(todoOutboxRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(meterRegistry.get("taskboard.outbox.failed.batches").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("taskboard.outbox.published").counter().count()).isZero();
+    }
+
+    @Test
+    void givenEmptyOutbox_whenRelayBatch_thenNothingIsPublished() {
+        // Arrange
+        when(todoOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(List.of());
+
+        // Act
+        int relayedMessages = todoOutboxRelay.relayBatch(BATCH_SIZE);
+
+        // Assert
+        assertThat(relayedMessages).isZero();
+        verifyNoInteractions(todoOutboxPublisher);
+    }
+
+    private static TodoOutboxMessage message(Long id, Instant createdAt) {
+        return new TodoOutboxMessage(id, "CREATED", "test-user-id", id, "{}", Date.from(createdAt));
+    }
+}
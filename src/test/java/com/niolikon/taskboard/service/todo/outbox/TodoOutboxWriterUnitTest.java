@@ -0,0 +1,97 @@
+package com.niolikon.taskboard.service.todo.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.niolikon.taskboard.service.todo.TodoOutboxRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.TodoOutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoOutboxWriterUnitTest {
+    private static final String OWNER_UID = "test-user-id";
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    @Mock
+    private TodoOutboxRepository todoOutboxRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private TodoOutboxWriter todoOutboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        todoOutboxWriter = new TodoOutboxWriter(todoOutboxRepository, objectMapper, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void givenTodoEvent_whenItIsPublished_thenItIsAddedToTheOutboxAsJson() throws Exception {
+        // Arrange
+        TodoView previous = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, LocalDate.of(2025, 1, 20));
+        TodoView current = new TodoView(1L, "Task 1", "Description 1", Boolean.TRUE, LocalDate.of(2025, 1, 20));
+        ArgumentCaptor<TodoOutboxMessage> messageCaptor = ArgumentCaptor.forClass(TodoOutboxMessage.class);
+
+        // Act
+        todoOutboxWriter.onTodoEvent(TodoEvent.updated(OWNER_UID, previous, current));
+
+        // Assert
+        verify(todoOutboxRepository).save(messageCaptor.capture());
+        TodoOutboxMessage message = messageCaptor.getValue();
+        assertThat(message.getEventType()).isEqualTo("UPDATED");
+        assertThat(message.getOwnerUid()).isEqualTo(OWNER_UID);
+        assertThat(message.getTodoId()).isEqualTo(1L);
+        assertThat(message.getCreatedAt()).isEqualTo(Date.from(NOW));
+        JsonNode payload = objectMapper.readTree(message.getPayload());
+        assertThat(payload.get("type").asText()).isEqualTo("UPDATED");
+        assertThat(payload.get("current").get("IsCompleted").asBoolean()).isTrue();
+    }
+
+    @Test
+    void givenTodoEventWithVersions_whenItIsPublished_thenThePayloadCarriesThem() throws Exception {
+        // Arrange
+        TodoView previous = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, null, 3L);
+        TodoView current = new TodoView(1L, "Task 1", "Description 1", Boolean.TRUE, null, 4L);
+        ArgumentCaptor<TodoOutboxMessage> messageCaptor = ArgumentCaptor.forClass(TodoOutboxMessage.class);
+
+        // Act
+        todoOutboxWriter.onTodoEvent(TodoEvent.updated(OWNER_UID, previous, current));
+
+        // Assert
+        verify(todoOutboxRepository).save(messageCaptor.capture());
+        JsonNode payload = objectMapper.readTree(messageCaptor.getValue().getPayload());
+        assertThat(payload.get("previous").get("Version").asLong()).isEqualTo(3L);
+        assertThat(payload.get("current").get("Version").asLong()).isEqualTo(4L);
+    }
+
+    @Test
+    void givenDeletionEvent_whenItIsPublished_thenOnlyThePreviousVersionIsCarried() throws Exception {
+        // Arrange
+        TodoView previous = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, null, 3L);
+        ArgumentCaptor<TodoOutboxMessage> messageCaptor = ArgumentCaptor.forClass(TodoOutboxMessage.class);
+
+        // Act
+        todoOutboxWriter.onTodoEvent(TodoEvent.deleted(OWNER_UID, previous));
+
+        // Assert
+        verify(todoOutboxRepository).save(messageCaptor.capture());
+        JsonNode payload = objectMapper.readTree(messageCaptor.getValue().getPayload());
+        assertThat(payload.get("previous").get("Version").asLong()).isEqualTo(3L);
+        assertThat(payload.get("current").isNull()).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelUnitTest {
+    private static final long START = 1_000_000L;
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void givenScheduledValue_whenAdvancedToItsDeadline_thenItExpiresNotBefore() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.schedule("first", START + 55);
+
+        // Act
+        wheel.advanceTo(START + 54, expired::add);
+        List<String> expiredBeforeDeadline = List.copyOf(expired);
+        wheel.advanceTo(START + 60, expired::add);
+
+        // Assert
+        assertThat(expiredBeforeDeadline).isEmpty();
+        assertThat(expired).containsExactly("first");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void givenDeadlinesOnHigherLevels_whenAdvanced_thenTheyCascadeAndExpireInDeadlineOrder() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        long twoLevelsAhead = 64L * 64 * 10 + 30;
+        long oneLevelAhead = 64L * 10 + 70;
+        wheel.schedule("third", START + twoLevelsAhead);
+        wheel.schedule("second", START + oneLevelAhead);
+        wheel.schedule("first", START + 20);
+
+        // Act
+        wheel.advanceTo(START + oneLevelAhead - 10, expired::add);
+        List<String> expiredBeforeSecond = List.copyOf(expired);
+        wheel.advanceTo(START + twoLevelsAhead, expired::add);
+
+        // Assert
+        assertThat(expiredBeforeSecond).containsExactly("first");
+        assertThat(expired).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void givenCancelledValue_whenAdvancedPastItsDeadline_thenItDoesNotExpire() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 5_000);
+        wheel.schedule("kept", START + 5_000);
+
+        // Act
+        boolean firstCancel = wheel.cancel(cancelled);
+        boolean secondCancel = wheel.cancel(cancelled);
+        wheel.advanceTo(START + 10_000, expired::add);
+
+        // Assert
+        assertThat(firstCancel).isTrue();
+        assertThat(secondCancel).isFalse();
+        assertThat(expired).containsExactly("kept");
+    }
+
+    @Test
+    void givenPassedDeadline_whenAdvanced_thenItExpiresWithTheNextTick() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.advanceTo(START + 1_000, expired::add);
+        wheel.schedule("late", START + 100);
+
+        // Act
+        wheel.advanceTo(START + 1_010, expired::add);
+
+        // Assert
+        assertThat(expired).containsExactly("late");
+    }
+
+    @Test
+    void givenIdleWheel_whenAdvancedFarAhead_thenLaterDeadlinesStillExpireOnTime() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        long farAhead = START + Duration.ofDays(365).toMillis();
+        wheel.advanceTo(farAhead, expired::add);
+        wheel.schedule("next", farAhead + 100);
+
+        // Act
+        wheel.advanceTo(farAhead + 90, expired::add);
+        List<String> expiredBeforeDeadline = List.copyOf(expired);
+        wheel.advanceTo(farAhead + 100, expired::add);
+
+        // Assert
+        assertThat(expiredBeforeDeadline).isEmpty();
+        assertThat(expired).containsExactly("next");
+    }
+
+    @Test
+    void givenManyValuesSpreadOverTime_whenAdvanced_thenEachExpiresOnce() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        IntStream.range(0, 10_000).forEach(i -> wheel.schedule("value-" + i, START + i * 37L));
+
+        // Act
+        wheel.advanceTo(START + 10_000 * 37L, expired::add);
+
+        // Assert
+        assertThat(expired).hasSize(10_000).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+}
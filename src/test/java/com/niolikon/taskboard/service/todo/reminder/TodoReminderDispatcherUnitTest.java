@@ -0,0 +1,179 @@
+package com.niolikon.taskboard.service.todo.reminder;
+
+import com.niolikon.taskboard.service.todo.MutableClock;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoReminder;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoReminderDispatcherUnitTest {
+    private static final String OWNER_UID = "test-user-id";
+    // Reminders of todos due on 2025-01-03 fire at 2025-01-02T00:00Z
+    private static final Instant START = Instant.parse("2025-01-01T22:00:00Z");
+    private static final LocalDate DUE_DATE = LocalDate.of(2025, 1, 3);
+    private static final Instant REMIND_AT = Instant.parse("2025-01-02T00:00:00Z");
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoReminderSink todoReminderSink;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private TodoReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new TodoReminderDispatcher(todoRepository, todoReminderSink, clock,
+                Duration.ofHours(24), Duration.ofSeconds(1), 2);
+    }
+
+    @Test
+    void givenTodosDueInWindow_whenLoadAhead_thenTheirRemindersFireAtLeadTimeBeforeDueDate() {
+        // Arrange
+        TodoReminder first = new TodoReminder(OWNER_UID, 1L, "Task 1", DUE_DATE);
+        TodoReminder second = new TodoReminder(OWNER_UID, 2L, "Task 2", DUE_DATE);
+        TodoReminder third = new TodoReminder(OWNER_UID, 3L, "Task 3", DUE_DATE);
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(0L), any())).thenReturn(List.of(first, second));
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(2L), any())).thenReturn(List.of(third));
+
+        // Act
+        int loadedReminders = dispatcher.loadAhead(Duration.ofHours(3));
+        clock.set(REMIND_AT.minusSeconds(1));
+        int earlyReminders = dispatcher.dispatchDue();
+        clock.set(REMIND_AT);
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(loadedReminders).isEqualTo(3);
+        assertThat(earlyReminders).isZero();
+        assertThat(dueReminders).isEqualTo(3);
+        verify(todoReminderSink).remind(first);
+        verify(todoReminderSink).remind(second);
+        verify(todoReminderSink).remind(third);
+        verify(todoRepository, never()).findPendingRemindersByDueDate(eq(DUE_DATE.minusDays(1)), any(), any());
+    }
+
+    @Test
+    void givenWindowNotReachingDueDate_whenLoadAhead_thenNothingIsRead() {
+        // Act
+        int loadedReminders = dispatcher.loadAhead(Duration.ofHours(1));
+
+        // Assert
+        assertThat(loadedReminders).isZero();
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void givenTodoCreatedDueInLoadedWindow_whenDispatchDue_thenItsReminderFires() {
+        // Arrange
+        dispatcher.loadAhead(Duration.ofHours(1));
+        TodoView created = new TodoView(7L, "Task 7", "Description 7", Boolean.FALSE, DUE_DATE.minusDays(1));
+
+        // Act
+        dispatcher.onTodoEvent(TodoEvent.created(OWNER_UID, created));
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dueReminders).isEqualTo(1);
+        verify(todoReminderSink).remind(new TodoReminder(OWNER_UID, 7L, "Task 7", DUE_DATE.minusDays(1)));
+    }
+
+    @Test
+    void givenTodoCompletedBeforeItsReminder_whenDispatchDue_thenNoReminderFires() {
+        // Arrange
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(0L), any()))
+                .thenReturn(List.of(new TodoReminder(OWNER_UID, 1L, "Task 1", DUE_DATE)));
+        dispatcher.loadAhead(Duration.ofHours(3));
+        TodoView pending = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, DUE_DATE);
+        TodoView completed = new TodoView(1L, "Task 1", "Description 1", Boolean.TRUE, DUE_DATE);
+
+        // Act
+        dispatcher.onTodoEvent(TodoEvent.updated(OWNER_UID, pending, completed));
+        clock.set(REMIND_AT);
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dueReminders).isZero();
+        assertThat(dispatcher.scheduledReminders()).isZero();
+        verifyNoInteractions(todoReminderSink);
+    }
+
+    @Test
+    void givenTodoMovedBeyondHorizon_whenDispatchDue_thenNoReminderFires() {
+        // Arrange
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(0L), any()))
+                .thenReturn(List.of(new TodoReminder(OWNER_UID, 1L, "Task 1", DUE_DATE)));
+        dispatcher.loadAhead(Duration.ofHours(3));
+        TodoView before = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, DUE_DATE);
+        TodoView postponed = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, DUE_DATE.plusDays(7));
+
+        // Act
+        dispatcher.onTodoEvent(TodoEvent.updated(OWNER_UID, before, postponed));
+        clock.set(REMIND_AT);
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dueReminders).isZero();
+        verifyNoInteractions(todoReminderSink);
+    }
+
+    @Test
+    void givenReminderAlreadyFired_whenTodoTitleIsEdited_thenNoReminderFiresAgain() {
+        // Arrange
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(0L), any()))
+                .thenReturn(List.of(new TodoReminder(OWNER_UID, 1L, "Task 1", DUE_DATE)));
+        dispatcher.loadAhead(Duration.ofHours(3));
+        clock.set(REMIND_AT);
+        dispatcher.dispatchDue();
+        clock.set(REMIND_AT.plusSeconds(1));
+        TodoView before = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, DUE_DATE);
+        TodoView renamed = new TodoView(1L, "Renamed", "Description 1", Boolean.FALSE, DUE_DATE);
+
+        // Act
+        dispatcher.onTodoEvent(TodoEvent.updated(OWNER_UID, before, renamed));
+        clock.set(REMIND_AT.plusSeconds(5));
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dueReminders).isZero();
+        verify(todoReminderSink, times(1)).remind(any());
+    }
+
+    @Test
+    void givenFailingSink_whenDispatchDue_thenRemainingRemindersAreStillDelivered() {
+        // Arrange
+        TodoReminder first = new TodoReminder(OWNER_UID, 1L, "Task 1", DUE_DATE);
+        TodoReminder second = new TodoReminder(OWNER_UID, 2L, "Task 2", DUE_DATE);
+        when(todoRepository.findPendingRemindersByDueDate(eq(DUE_DATE), eq(0L), any())).thenReturn(List.of(first));
+        dispatcher.loadAhead(Duration.ofHours(3));
+        dispatcher.onTodoEvent(TodoEvent.created(OWNER_UID,
+                new TodoView(2L, "Task 2", "Description 2", Boolean.FALSE, DUE_DATE)));
+        doThrow(new IllegalStateException("Webhook unavailable")).when(todoReminderSink).remind(first);
+
+        // Act
+        clock.set(REMIND_AT);
+        int dueReminders = dispatcher.dispatchDue();
+
+        // Assert
+        assertThat(dueReminders).isEqualTo(2);
+        verify(todoReminderSink).remind(second);
+    }
+}
@@ -0,0 +1,78 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
+import com.niolikon.taskboard.service.todo.TodoMapper;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoArchivalServiceUnitTest {
+    private static final Instant CUTOFF = Instant.parse("2025-01-01T00:00:00Z");
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+    @Mock
+    private TodoMapper todoMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private TodoArchivalService todoArchivalService;
+
+    @Test
+    void givenArchivableTodos_whenArchiveCompletedBefore_thenTodosAreMovedAndEventsPublished() {
+        // Arrange
+        Todo firstTodo = Todo.builder().id(1L).ownerUid("owner-1").isCompleted(Boolean.TRUE).build();
+        Todo secondTodo = Todo.builder().id(2L).ownerUid("owner-2").isCompleted(Boolean.TRUE).build();
+        TodoView firstView = TodoView.builder().id(1L).isCompleted(Boolean.TRUE).build();
+        TodoView secondView = TodoView.builder().id(2L).isCompleted(Boolean.TRUE).build();
+        when(todoRepository.findArchivableForUpdate(Date.from(CUTOFF), BATCH_SIZE)).thenReturn(List.of(firstTodo, secondTodo));
+        when(todoMapper.toTodoView(firstTodo)).thenReturn(firstView);
+        when(todoMapper.toTodoView(secondTodo)).thenReturn(secondView);
+
+        // Act
+        int archivedTodos = todoArchivalService.archiveCompletedBefore(CUTOFF, BATCH_SIZE);
+
+        // Assert
+        assertThat(archivedTodos).isEqualTo(2);
+        verify(todoArchiveRepository).copyFromTodos(Set.of("owner-1", "owner-2"), List.of(1L, 2L));
+        verify(todoArchiveRepository).deleteFromTodos(Set.of("owner-1", "owner-2"), List.of(1L, 2L));
+        verify(eventPublisher).publishEvent(TodoEvent.archived("owner-1", firstView));
+        verify(eventPublisher).publishEvent(TodoEvent.archived("owner-2", secondView));
+    }
+
+    @Test
+    void givenNoArchivableTodos_whenArchiveCompletedBefore_thenNothingIsWritten() {
+        // Arrange
+        when(todoRepository.findArchivableForUpdate(any(Date.class), anyInt())).thenReturn(List.of());
+
+        // Act
+        int archivedTodos = todoArchivalService.archiveCompletedBefore(CUTOFF, BATCH_SIZE);
+
+        // Assert
+        assertThat(archivedTodos).isZero();
+        verify(todoArchiveRepository, never()).copyFromTodos(anyCollection(), anyCollection());
+        verify(todoArchiveRepository, never()).deleteFromTodos(anyCollection(), anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+}
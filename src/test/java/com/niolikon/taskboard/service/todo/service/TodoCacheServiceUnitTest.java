@@ -0,0 +1,115 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.service.TodoCacheService.CachedTodo;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class TodoCacheServiceUnitTest {
+    private static final Long TODO_ID = 1L;
+    private static final String OWNER_UID = "test-user-123";
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(TodoCacheService.TODOS_CACHE);
+        }
+
+        @Bean
+        TodoCacheService todoCacheService(TodoRepository todoRepository) {
+            return new TodoCacheService(todoRepository);
+        }
+    }
+
+    @MockitoBean
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCacheService todoCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(TodoCacheService.TODOS_CACHE).clear();
+    }
+
+    @Test
+    void givenCachedTodo_whenFindByIdAndOwnerUidAgain_thenRepositoryIsNotQueried() {
+        // Arrange
+        Todo todo = Todo.builder().id(TODO_ID).ownerUid(OWNER_UID).build();
+        when(todoRepository.findByIdAndOwnerUid(TODO_ID, OWNER_UID)).thenReturn(Optional.of(todo));
+
+        // Act
+        todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+        Optional<CachedTodo> result = todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Assert
+        assertThat(result).contains(CachedTodo.of(todo));
+        verify(todoRepository, times(1)).findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+    }
+
+    @Test
+    void givenMissingTodo_whenFindByIdAndOwnerUid_thenAbsenceIsNotCached() {
+        // Arrange
+        when(todoRepository.findByIdAndOwnerUid(TODO_ID, OWNER_UID)).thenReturn(Optional.empty());
+
+        // Act
+        todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+        Optional<CachedTodo> result = todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(todoRepository, times(2)).findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+    }
+
+    @Test
+    void givenLoadedEntityChangesAfterwards_whenFindByIdAndOwnerUidAgain_thenCachedTodoIsUnchanged() {
+        // Arrange
+        Todo todo = Todo.builder().id(TODO_ID).ownerUid(OWNER_UID).title("Original").version(3L).build();
+        when(todoRepository.findByIdAndOwnerUid(TODO_ID, OWNER_UID)).thenReturn(Optional.of(todo));
+        todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Act
+        todo.setTitle("Changed");
+        Optional<CachedTodo> result = todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Assert
+        assertThat(result).map(CachedTodo::title).contains("Original");
+    }
+
+    @Test
+    void givenCachedTodo_whenTodoEventIsPublished_thenEntryIsEvicted() {
+        // Arrange
+        Todo todo = Todo.builder().id(TODO_ID).ownerUid(OWNER_UID).build();
+        when(todoRepository.findByIdAndOwnerUid(TODO_ID, OWNER_UID)).thenReturn(Optional.of(todo));
+        todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Act
+        todoCacheService.onTodoEvent(TodoEvent.deleted(OWNER_UID, TodoView.builder().id(TODO_ID).build()));
+        todoCacheService.findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+
+        // Assert
+        verify(todoRepository, times(2)).findByIdAndOwnerUid(TODO_ID, OWNER_UID);
+    }
+}
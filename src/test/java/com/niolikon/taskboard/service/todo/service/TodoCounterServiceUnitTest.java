@@ -0,0 +1,251 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoCounterRepository;
+import com.niolikon.taskboard.service.todo.TodoDueCounterRepository;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.TodoCounter;
+import com.niolikon.taskboard.service.todo.model.TodoDueCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static com.niolikon.taskboard.service.todo.service.testdata.TodoServiceTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterServiceUnitTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.now(CLOCK);
+    private static final LocalDate FIXTURE_DUE_DATE = DATE_IN_THE_FUTURE_FIXED;
+
+    @Mock
+    private TodoCounterRepository todoCounterRepository;
+    @Mock
+    private TodoDueCounterRepository todoDueCounterRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoVersionService todoVersionService;
+
+    private TodoCounterService todoCounterService;
+
+    @BeforeEach
+    void setUp() {
+        todoCounterService = new TodoCounterService(todoCounterRepository, todoDueCounterRepository, todoRepository,
+                todoVersionService, CLOCK);
+    }
+
+    @Test
+    void givenExistingCounter_whenPendingTodoIsCreated_thenPendingCountIsIncremented() {
+        // Arrange
+        TodoView createdTodo = todoView_mapped1_fromTodoInstance;
+        when(todoCounterRepository.increment(VALID_OWNER_UID, 1L, 0L)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, 1L)).thenReturn(1);
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.created(VALID_OWNER_UID, createdTodo));
+
+        // Assert
+        verify(todoCounterRepository).increment(VALID_OWNER_UID, 1L, 0L);
+        verify(todoDueCounterRepository).increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, 1L);
+        verify(todoCounterRepository).findVersionByOwnerUid(VALID_OWNER_UID);
+        verifyNoMoreInteractions(todoCounterRepository, todoDueCounterRepository);
+    }
+
+    @Test
+    void givenExistingCounter_whenPendingTodoIsCompleted_thenCountIsMovedToCompleted() {
+        // Arrange
+        when(todoCounterRepository.increment(VALID_OWNER_UID, -1L, 1L)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, -1L)).thenReturn(1);
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.updated(VALID_OWNER_UID,
+                todoView_mapped_fromExistingNonCompletedTodo, todoView_mapped_fromPatchedTodo));
+
+        // Assert
+        verify(todoCounterRepository).increment(VALID_OWNER_UID, -1L, 1L);
+        verify(todoDueCounterRepository).increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, -1L);
+        verify(todoCounterRepository).findVersionByOwnerUid(VALID_OWNER_UID);
+        verifyNoMoreInteractions(todoCounterRepository, todoDueCounterRepository);
+    }
+
+    @Test
+    void givenCompletionUnchanged_whenTodoIsUpdated_thenOnlyVersionIsBumped() {
+        // Arrange
+        when(todoCounterRepository.increment(VALID_OWNER_UID, 0L, 0L)).thenReturn(1);
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.of(8L));
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.updated(VALID_OWNER_UID,
+                todoView_mapped1_fromTodoInstance, todoView_mapped1_fromTodoInstance));
+
+        // Assert
+        verify(todoCounterRepository).increment(VALID_OWNER_UID, 0L, 0L);
+        verify(todoVersionService).recordCommitted(VALID_OWNER_UID, 8L);
+        verifyNoInteractions(todoDueCounterRepository);
+    }
+
+    @Test
+    void givenPendingTodo_whenDueDateIsMoved_thenDueCountersAreMovedAfterLockingOwnerCounter() {
+        // Arrange
+        TodoView previousTodo = TodoView.builder().id(1L).isCompleted(false).dueDate(TODAY).build();
+        TodoView movedTodo = TodoView.builder().id(1L).isCompleted(false).dueDate(TODAY.plusDays(1)).build();
+        when(todoCounterRepository.increment(VALID_OWNER_UID, 0L, 0L)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, TODAY, -1L)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, TODAY.plusDays(1), 1L)).thenReturn(0);
+        when(todoDueCounterRepository.seed(VALID_OWNER_UID, TODAY.plusDays(1))).thenReturn(1);
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.updated(VALID_OWNER_UID, previousTodo, movedTodo));
+
+        // Assert
+        var inOrder = inOrder(todoCounterRepository, todoDueCounterRepository);
+        inOrder.verify(todoCounterRepository).increment(VALID_OWNER_UID, 0L, 0L);
+        inOrder.verify(todoDueCounterRepository).increment(VALID_OWNER_UID, TODAY, -1L);
+        inOrder.verify(todoDueCounterRepository).increment(VALID_OWNER_UID, TODAY.plusDays(1), 1L);
+        inOrder.verify(todoDueCounterRepository).seed(VALID_OWNER_UID, TODAY.plusDays(1));
+        verify(todoCounterRepository).findVersionByOwnerUid(VALID_OWNER_UID);
+        verifyNoMoreInteractions(todoCounterRepository, todoDueCounterRepository);
+    }
+
+    @Test
+    void givenNoCounter_whenTodoIsDeleted_thenCounterIsSeededFromRows() {
+        // Arrange
+        when(todoCounterRepository.increment(VALID_OWNER_UID, -1L, 0L)).thenReturn(0);
+        when(todoCounterRepository.seed(VALID_OWNER_UID)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, -1L)).thenReturn(1);
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.deleted(VALID_OWNER_UID, todoView_mapped1_fromTodoInstance));
+
+        // Assert
+        verify(todoCounterRepository).increment(VALID_OWNER_UID, -1L, 0L);
+        verify(todoCounterRepository).seed(VALID_OWNER_UID);
+        verify(todoCounterRepository).findVersionByOwnerUid(VALID_OWNER_UID);
+        verifyNoMoreInteractions(todoCounterRepository);
+    }
+
+    @Test
+    void givenCounterSeededConcurrently_whenTodoIsCreated_thenDeltaIsAppliedOnSeededCounter() {
+        // Arrange
+        when(todoCounterRepository.increment(VALID_OWNER_UID, 1L, 0L)).thenReturn(0, 1);
+        when(todoCounterRepository.seed(VALID_OWNER_UID)).thenReturn(0);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, 1L)).thenReturn(1);
+
+        // Act
+        todoCounterService.onTodoEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped1_fromTodoInstance));
+
+        // Assert
+        verify(todoCounterRepository, times(2)).increment(VALID_OWNER_UID, 1L, 0L);
+        verify(todoCounterRepository).seed(VALID_OWNER_UID);
+    }
+
+    @Test
+    void givenActiveTransaction_whenSeveralTodosAreCreated_thenSingleIncrementIsAppliedBeforeCommit() {
+        // Arrange
+        when(todoCounterRepository.increment(VALID_OWNER_UID, 3L, 0L)).thenReturn(1);
+        when(todoDueCounterRepository.increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, 3L)).thenReturn(1);
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.of(4L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            todoCounterService.onTodoEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped1_fromTodoInstance));
+            todoCounterService.onTodoEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped2_fromTodoInstance));
+            todoCounterService.onTodoEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped3_fromTodoInstance));
+            verifyNoInteractions(todoCounterRepository, todoDueCounterRepository);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+            verifyNoInteractions(todoVersionService);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(todoCounterRepository).increment(VALID_OWNER_UID, 3L, 0L);
+        verify(todoDueCounterRepository).increment(VALID_OWNER_UID, FIXTURE_DUE_DATE, 3L);
+        verify(todoCounterRepository).findVersionByOwnerUid(VALID_OWNER_UID);
+        verify(todoVersionService).recordCommitted(VALID_OWNER_UID, 4L);
+        verifyNoMoreInteractions(todoCounterRepository, todoDueCounterRepository);
+    }
+
+    @Test
+    void givenOwnerCounter_whenSummarize_thenSummaryIsServedFromCounters() {
+        // Arrange
+        TodoSummary expectedSummary = new TodoSummary(3L, 2L, 1L, 1L);
+        when(todoCounterRepository.findSummaryByOwnerUid(VALID_OWNER_UID, TODAY)).thenReturn(Optional.of(expectedSummary));
+
+        // Act
+        TodoSummary result = todoCounterService.summarize(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(result).isEqualTo(expectedSummary);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void givenNoOwnerCounter_whenSummarize_thenSummaryIsCountedFromRows() {
+        // Arrange
+        TodoSummary expectedSummary = new TodoSummary(1L, 0L, 1L, 0L);
+        when(todoCounterRepository.findSummaryByOwnerUid(VALID_OWNER_UID, TODAY)).thenReturn(Optional.empty());
+        when(todoRepository.summarizeByOwnerUid(VALID_OWNER_UID, TODAY)).thenReturn(expectedSummary);
+
+        // Act
+        TodoSummary result = todoCounterService.summarize(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(result).isEqualTo(expectedSummary);
+    }
+
+    @Test
+    void givenDriftedCounters_whenReconcile_thenCountersAreRecountedAndDriftIsReported() {
+        // Arrange
+        when(todoCounterRepository.lockByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.of(VALID_OWNER_UID));
+        when(todoCounterRepository.findById(VALID_OWNER_UID)).thenReturn(
+                Optional.of(new TodoCounter(VALID_OWNER_UID, 4L, 1L, 2L)),
+                Optional.of(new TodoCounter(VALID_OWNER_UID, 3L, 1L, 2L)));
+        when(todoDueCounterRepository.findByOwnerUid(VALID_OWNER_UID)).thenReturn(
+                List.of(new TodoDueCounter(VALID_OWNER_UID, TODAY, 2L)),
+                List.of(new TodoDueCounter(VALID_OWNER_UID, TODAY, 1L)));
+
+        // Act
+        boolean result = todoCounterService.reconcile(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(todoCounterRepository).recount(VALID_OWNER_UID);
+        verify(todoDueCounterRepository).deleteByOwnerUid(VALID_OWNER_UID);
+        verify(todoDueCounterRepository).recount(VALID_OWNER_UID);
+    }
+
+    @Test
+    void givenNoOwnerCounter_whenReconcile_thenNothingIsRecounted() {
+        // Arrange
+        when(todoCounterRepository.lockByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.empty());
+
+        // Act
+        boolean result = todoCounterService.reconcile(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(result).isFalse();
+        verifyNoMoreInteractions(todoCounterRepository);
+        verifyNoInteractions(todoDueCounterRepository);
+    }
+}
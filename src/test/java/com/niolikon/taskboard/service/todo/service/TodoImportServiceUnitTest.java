@@ -0,0 +1,163 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niolikon.taskboard.service.todo.dto.TodoImportError;
+import com.niolikon.taskboard.service.todo.dto.TodoImportReport;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TodoImportServiceUnitTest {
+    private static final String OWNER_UID = "test-user-123";
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_LINE_LENGTH = 200;
+    private static final String FUTURE_DUE_DATE = LocalDate.now().plusDays(10).toString();
+
+    private ITodoService todoService;
+    private Validator validator;
+    private TodoImportService todoImportService;
+
+    @BeforeEach
+    void setUp() {
+        todoService = mock(ITodoService.class);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        todoImportService = new TodoImportService(todoService, new ObjectMapper().findAndRegisterModules(), validator, CHUNK_SIZE,
+                MAX_LINE_LENGTH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifyNoMoreInteractions(todoService);
+    }
+
+    @Test
+    void givenValidLines_whenImportAll_thenTodosAreCreatedInChunks() throws IOException {
+        // Arrange
+        List<List<TodoRequest>> chunks = new ArrayList<>();
+        when(todoService.createAll(eq(OWNER_UID), any())).thenAnswer(invocation -> {
+            chunks.add(invocation.getArgument(1));
+            return List.of();
+        });
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, ndjson(validLine("Task 1"), validLine("Task 2"), "", validLine("Task 3")));
+
+        // Assert
+        assertThat(report).isEqualTo(new TodoImportReport(3L, 0L, List.of()));
+        assertThat(chunks).extracting(chunk -> chunk.stream().map(TodoRequest::getTitle).toList())
+                .containsExactly(List.of("Task 1", "Task 2"), List.of("Task 3"));
+        verify(todoService, times(2)).createAll(eq(OWNER_UID), any());
+    }
+
+    @Test
+    void givenMalformedAndInvalidLines_whenImportAll_thenOnlyThoseLinesAreRejected() throws IOException {
+        // Arrange
+        String malformedLine = "{\"Title\": ";
+        String invalidLine = "{\"Title\":\"T\",\"Description\":\"A description\",\"IsCompleted\":false,\"DueDate\":\"" + FUTURE_DUE_DATE + "\"}";
+        ArgumentCaptor<List<TodoRequest>> chunkCaptor = chunkCaptor();
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, ndjson(malformedLine, validLine("Task 2"), invalidLine));
+
+        // Assert
+        assertThat(report.getImported()).isEqualTo(1L);
+        assertThat(report.getRejected()).isEqualTo(2L);
+        assertThat(report.getErrors()).extracting(TodoImportError::getLine).containsExactly(1L, 3L);
+        assertThat(report.getErrors().get(1).getMessage()).startsWith("title: ");
+        verify(todoService).createAll(eq(OWNER_UID), chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue()).extracting(TodoRequest::getTitle).containsExactly("Task 2");
+    }
+
+    @Test
+    void givenChunkCannotBeStored_whenImportAll_thenItsLinesAreRejectedAndLaterChunksStored() throws IOException {
+        // Arrange
+        when(todoService.createAll(eq(OWNER_UID), any()))
+                .thenThrow(new DataIntegrityViolationException("constraint"))
+                .thenReturn(List.of());
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, ndjson(validLine("Task 1"), validLine("Task 2"), validLine("Task 3")));
+
+        // Assert
+        assertThat(report.getImported()).isEqualTo(1L);
+        assertThat(report.getErrors()).extracting(TodoImportError::getLine).containsExactly(1L, 2L);
+        verify(todoService, times(2)).createAll(eq(OWNER_UID), any());
+    }
+
+    @Test
+    void givenOverlongLine_whenImportAll_thenOnlyThatLineIsRejected() throws IOException {
+        // Arrange
+        String overlongLine = "{\"Title\":\"" + "x".repeat(MAX_LINE_LENGTH) + "\"}";
+        ArgumentCaptor<List<TodoRequest>> chunkCaptor = chunkCaptor();
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, ndjson(validLine("Task 1"), overlongLine, validLine("Task 3")));
+
+        // Assert
+        assertThat(report.getImported()).isEqualTo(2L);
+        assertThat(report.getErrors()).containsExactly(
+                new TodoImportError(2L, "Line is longer than " + MAX_LINE_LENGTH + " characters"));
+        verify(todoService).createAll(eq(OWNER_UID), chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue()).extracting(TodoRequest::getTitle).containsExactly("Task 1", "Task 3");
+    }
+
+    @Test
+    void givenCrLfLineEndings_whenImportAll_thenLinesAreParsed() throws IOException {
+        // Arrange
+        InputStream crLfNdjson = new ByteArrayInputStream((validLine("Task 1") + "\r\n" + validLine("Task 2") + "\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, crLfNdjson);
+
+        // Assert
+        assertThat(report).isEqualTo(new TodoImportReport(2L, 0L, List.of()));
+        verify(todoService).createAll(eq(OWNER_UID), any());
+    }
+
+    @Test
+    void givenMoreRejectedLinesThanReported_whenImportAll_thenAllAreCountedButErrorsAreCapped() throws IOException {
+        // Arrange
+        int rejectedLines = TodoImportService.MAX_REPORTED_ERRORS + 5;
+        String[] lines = IntStream.range(0, rejectedLines).mapToObj(i -> "not json").toArray(String[]::new);
+
+        // Act
+        TodoImportReport report = todoImportService.importAll(OWNER_UID, ndjson(lines));
+
+        // Assert
+        assertThat(report.getRejected()).isEqualTo(rejectedLines);
+        assertThat(report.getErrors()).hasSize(TodoImportService.MAX_REPORTED_ERRORS);
+    }
+
+    private static String validLine(String title) {
+        return "{\"Title\":\"" + title + "\",\"Description\":\"A description\",\"IsCompleted\":false,\"DueDate\":\"" + FUTURE_DUE_DATE + "\"}";
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<TodoRequest>> chunkCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the per-item create path with {@link ITodoService#createAll} on PostgreSQL and
+ * reports the throughput of both; the batch path must reach the database as a few JDBC batches.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgreSQLTestContainersConfig.class)
+class TodoServiceBatchThroughputIT {
+    private static final Logger log = LoggerFactory.getLogger(TodoServiceBatchThroughputIT.class);
+    private static final int TODO_COUNT = 1000;
+
+    @Autowired
+    private ITodoService todoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenThousandTodos_whenCreatedInBatch_thenFewStatementsAreIssuedAndThroughputIsReported() {
+        // Arrange
+        List<TodoRequest> todoRequests = IntStream.range(0, TODO_COUNT).mapToObj(this::todoRequest).toList();
+
+        // Act
+        long perItemStart = System.nanoTime();
+        todoRequests.forEach(todoRequest -> todoService.create("throughput-per-item", todoRequest));
+        long perItemNanos = System.nanoTime() - perItemStart;
+        long perItemStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long batchStart = System.nanoTime();
+        List<TodoView> createdTodos = todoService.createAll("throughput-batch", todoRequests);
+        long batchNanos = System.nanoTime() - batchStart;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        log.info("Per-item create: {} todos in {} ms ({} todos/s, {} statements)",
+                TODO_COUNT, perItemNanos / 1_000_000, throughput(perItemNanos), perItemStatements);
+        log.info("Batch create: {} todos in {} ms ({} todos/s, {} statements)",
+                TODO_COUNT, batchNanos / 1_000_000, throughput(batchNanos), batchStatements);
+
+        assertThat(createdTodos).hasSize(TODO_COUNT).allMatch(todo -> todo.getId() != null);
+        assertThat(perItemStatements).isGreaterThanOrEqualTo(TODO_COUNT);
+        assertThat(batchStatements).isLessThan(TODO_COUNT / 10);
+    }
+
+    private TodoRequest todoRequest(int index) {
+        return new TodoRequest("Task " + index, "Description " + index, index % 2 == 0,
+                LocalDate.now().plusDays(1 + index % 30));
+    }
+
+    private static long throughput(long nanos) {
+        return TODO_COUNT * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
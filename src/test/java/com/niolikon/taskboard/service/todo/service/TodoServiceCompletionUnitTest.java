@@ -3,21 +3,27 @@ package com.niolikon.taskboard.service.todo.service;
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
 import com.niolikon.taskboard.framework.exceptions.rest.client.EntityNotFoundRestException;
 import com.niolikon.taskboard.framework.exceptions.rest.client.ForbiddenRestException;
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
 import com.niolikon.taskboard.service.todo.TodoMapper;
 import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkOutcome;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkStatus;
 import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
 import com.niolikon.taskboard.service.todo.model.Todo;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,7 +39,17 @@ class TodoServiceCompletionUnitTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+    @Mock
     private TodoMapper todoMapper;
+    @Mock
+    private TodoCounterService todoCounterService;
+    @Mock
+    private TodoCacheService todoCacheService;
+    @Mock
+    private TodoVersionService todoVersionService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private TodoService todoService;
 
@@ -44,28 +60,24 @@ class TodoServiceCompletionUnitTest {
         // Arrange
         TodoPatch todoPatch = todoPatch_completed_fromClient;
         when(todoMapper.toTodo(todoPatch)).thenReturn(todo_mapped_fromTodoPatch);
-        Todo existingTodo = todo_existingNonCompleted_fromRepository;
-        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(existingTodo));
-        Todo patchedTodo = todo_patchedAndSaved_fromRepository;
-        when(todoRepository.save(existingTodo)).thenReturn(patchedTodo);
+        Todo previousTodo = Todo.builder().id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID)
+                .title(todo_existingNonCompleted_fromRepository.getTitle())
+                .description(todo_existingNonCompleted_fromRepository.getDescription())
+                .isCompleted(Boolean.FALSE).build();
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null))
+                .thenReturn(Optional.of(previousTodo));
+        TodoView previousView = todoView_mapped_fromExistingNonCompletedTodo;
         TodoView expectedView = todoView_mapped_fromPatchedTodo;
-        when(todoMapper.toTodoView(patchedTodo)).thenReturn(expectedView);
+        when(todoMapper.toTodoView(previousTodo)).thenReturn(previousView, expectedView);
 
         // Act
-        TodoView result = todoService.patch(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoPatch);
+        TodoView result = todoService.patch(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoPatch, null);
 
         // Assert
         assertThat(result).isEqualTo(expectedView);
-
-        ArgumentCaptor<Todo> saved = ArgumentCaptor.forClass(Todo.class);
-        verify(todoRepository).save(saved.capture());
-        assertThat(saved.getValue())
-                .extracting(Todo::getTitle, Todo::getDescription, Todo::getIsCompleted)
-                .containsExactly(
-                        todo_existingNonCompleted_fromRepository.getTitle(),
-                        todo_existingNonCompleted_fromRepository.getDescription(),
-                        Boolean.TRUE
-                );
+        assertThat(previousTodo.getIsCompleted()).isTrue();
+        verify(todoRepository).updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null);
+        verify(eventPublisher).publishEvent(TodoEvent.updated(VALID_OWNER_UID, previousView, expectedView));
 
         verifyNoMoreInteractions(todoRepository, todoMapper);
     }
@@ -75,17 +87,20 @@ class TodoServiceCompletionUnitTest {
     @Tag("Scenario=2")
     void givenCompletedTodo_whenOwnerRequestsMarkingComplete_thenTodoIsNotPatched() {
         // Arrange
+        when(todoMapper.toTodo(todoPatch_completed_fromClient)).thenReturn(todo_mapped_fromTodoPatch);
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null))
+                .thenReturn(Optional.empty());
         Todo existingTodo = todo_existingCompleted_fromRepository;
         when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(existingTodo));
         TodoView expectedView = todoView_mapped_fromExistingTodo;
         when(todoMapper.toTodoView(existingTodo)).thenReturn(expectedView);
 
         // Act
-        TodoView result = todoService.patch(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoPatch_completed_fromClient);
+        TodoView result = todoService.patch(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoPatch_completed_fromClient, null);
 
         // Assert
         assertThat(result).isEqualTo(expectedView);
-        verify(todoRepository, never()).save(existingTodo);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -93,26 +108,34 @@ class TodoServiceCompletionUnitTest {
     @Tag("Scenario=1")
     void givenCompletedTodo_whenOwnerRequestsAnyModification_thenTodoIsNotUpdated() {
         // Arrange
-        Todo existingTodo = todo_existingCompleted_fromRepository;
-        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(existingTodo));
+        when(todoMapper.toTodo(todoRequest_modifiedTitleAndCompletion_fromClient)).thenReturn(todo_mapped_fromTodoPatch);
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null))
+                .thenReturn(Optional.empty());
+        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(todo_existingCompleted_fromRepository));
 
         // Act & Assert
-        assertThatThrownBy( () -> todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoRequest_modifiedTitleAndCompletion_fromClient))
+        assertThatThrownBy( () -> todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoRequest_modifiedTitleAndCompletion_fromClient, null))
                 .isInstanceOf(ForbiddenRestException.class)
                 .hasMessageContaining("Cannot modify completed Todo");
-        verify(todoRepository, never()).save(existingTodo);
+        verify(todoRepository).updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null);
+        verify(todoRepository).findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID);
         verifyNoMoreInteractions(todoRepository, todoMapper);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @Tag("Story=TBS1")
     void givenNonExistingTodo_whenPatch_thenThrowsException() {
         // Arrange
+        when(todoMapper.toTodo(todoPatch_completed_fromClient)).thenReturn(todo_mapped_fromTodoPatch);
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null))
+                .thenReturn(Optional.empty());
         when(todoRepository.findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> todoService.patch(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID, todoPatch_completed_fromClient))
+        assertThatThrownBy(() -> todoService.patch(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID, todoPatch_completed_fromClient, null))
                 .isInstanceOf(EntityNotFoundRestException.class);
+        verify(todoRepository).updatePendingByIdAndOwnerUidReturningPrevious(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromTodoPatch, null);
         verify(todoRepository).findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID);
         verifyNoMoreInteractions(todoRepository, todoMapper);
     }
@@ -121,20 +144,61 @@ class TodoServiceCompletionUnitTest {
     @Tag("Story=TBS1")
     void givenMultiplePendingTodosExist_whenReadAllPending_thenReturnsTodoViewList() {
         // Arrange
-        List<Todo> pendingTodos = List.of(todo_pending1_fromRepository, todo_pending2_fromRepository);
-        Page<Todo> pendingTodosPaged = new PageImpl<>(pendingTodos, pageable_firstPageSize10_fromClient, pendingTodos.size());
-        when(todoRepository.findByOwnerUidAndIsCompleted(VALID_OWNER_UID, Boolean.FALSE, pageable_firstPageSize10_fromClient))
-                .thenReturn(pendingTodosPaged);
         List<TodoView> expectedViews = List.of(todoView_mapped1_fromPendingTodo, todoView_mapped2_fromPendingTodo);
-        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(todoView_mapped1_fromPendingTodo, todoView_mapped2_fromPendingTodo);
+        Page<TodoView> pendingTodosPaged = new PageImpl<>(expectedViews, pageable_firstPageSize10_fromClient, expectedViews.size());
+        when(todoRepository.findViewsByOwnerUidAndIsCompleted(VALID_OWNER_UID, Boolean.FALSE, pageable_firstPageSize10_fromClient))
+                .thenReturn(pendingTodosPaged);
 
         // Act
-        PageResponse<TodoView> result = todoService.readAllPending(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
+        PageResponse<TodoView> result = todoService.readAllPending(VALID_OWNER_UID, pageable_firstPageSize10_fromClient).getPage();
 
         // Assert
         assertThat(result).isNotNull();
         Assertions.assertThat(result.getContent()).containsExactly(expectedViews.toArray(new TodoView[0]));
         verify(todoRepository)
-                .findByOwnerUidAndIsCompleted(VALID_OWNER_UID, Boolean.FALSE, pageable_firstPageSize10_fromClient);
+                .findViewsByOwnerUidAndIsCompleted(VALID_OWNER_UID, Boolean.FALSE, pageable_firstPageSize10_fromClient);
+    }
+
+    @Test
+    void givenPendingCompletedAndMissingIds_whenPatchAll_thenSingleUpdateTouchesPendingOnlyAndOutcomesAreReported() {
+        // Arrange
+        Todo pendingTodo = Todo.builder().id(1L).title("Task 1").description("Desc 1").isCompleted(false).ownerUid(VALID_OWNER_UID).build();
+        Todo completedTodo = Todo.builder().id(2L).title("Task 2").description("Desc 2").isCompleted(true).ownerUid(VALID_OWNER_UID).build();
+        List<Long> ids = List.of(1L, 2L, VALID_NON_EXISTENT_TODO_ID);
+        when(todoRepository.findByOwnerUidAndIdIn(VALID_OWNER_UID, ids)).thenReturn(List.of(pendingTodo, completedTodo));
+        when(todoMapper.toTodo(todoPatch_completed_fromClient)).thenReturn(todo_mapped_fromTodoPatch);
+        TodoView previousView = TodoView.builder().id(1L).isCompleted(false).build();
+        TodoView patchedView = TodoView.builder().id(1L).isCompleted(true).build();
+        when(todoMapper.toTodoView(pendingTodo)).thenReturn(previousView, patchedView);
+
+        // Act
+        List<TodoBulkOutcome> result = todoService.patchAll(VALID_OWNER_UID, new TodoBulkPatch(ids, todoPatch_completed_fromClient));
+
+        // Assert
+        Assertions.assertThat(result).containsExactly(
+                new TodoBulkOutcome(1L, TodoBulkStatus.UPDATED),
+                new TodoBulkOutcome(2L, TodoBulkStatus.LOCKED),
+                new TodoBulkOutcome(VALID_NON_EXISTENT_TODO_ID, TodoBulkStatus.NOT_FOUND)
+        );
+        verify(todoRepository).patchPendingByOwnerUidAndIdIn(VALID_OWNER_UID, Set.of(1L),
+                null, null, Boolean.TRUE, null);
+        verify(eventPublisher).publishEvent(TodoEvent.updated(VALID_OWNER_UID, previousView, patchedView));
+        verifyNoMoreInteractions(todoRepository, eventPublisher);
+    }
+
+    @Test
+    void givenOnlyCompletedTodos_whenPatchAll_thenNoUpdateIsIssued() {
+        // Arrange
+        Todo completedTodo = Todo.builder().id(2L).isCompleted(true).ownerUid(VALID_OWNER_UID).build();
+        List<Long> ids = List.of(2L);
+        when(todoRepository.findByOwnerUidAndIdIn(VALID_OWNER_UID, ids)).thenReturn(List.of(completedTodo));
+
+        // Act
+        List<TodoBulkOutcome> result = todoService.patchAll(VALID_OWNER_UID, new TodoBulkPatch(ids, todoPatch_completed_fromClient));
+
+        // Assert
+        Assertions.assertThat(result).containsExactly(new TodoBulkOutcome(2L, TodoBulkStatus.LOCKED));
+        verify(todoRepository, never()).patchPendingByOwnerUidAndIdIn(any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 }
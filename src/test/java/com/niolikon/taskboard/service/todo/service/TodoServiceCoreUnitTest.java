@@ -2,27 +2,50 @@ package com.niolikon.taskboard.service.todo.service;
 
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
 import com.niolikon.taskboard.framework.exceptions.rest.client.EntityNotFoundRestException;
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
 import com.niolikon.taskboard.service.todo.TodoMapper;
 import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkDelete;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkOutcome;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkStatus;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoSummary;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.dto.VersionedTodoPage;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
 import com.niolikon.taskboard.service.todo.model.Todo;
+import org.assertj.core.api.Assertions;
+import com.niolikon.taskboard.service.todo.service.TodoCacheService.CachedTodo;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static com.niolikon.taskboard.service.todo.service.testdata.TodoServiceTestData.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceCoreUnitTest {
@@ -30,7 +53,17 @@ class TodoServiceCoreUnitTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+    @Mock
     private TodoMapper todoMapper;
+    @Mock
+    private TodoCounterService todoCounterService;
+    @Mock
+    private TodoCacheService todoCacheService;
+    @Mock
+    private TodoVersionService todoVersionService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private TodoService todoService;
 
@@ -60,83 +93,175 @@ class TodoServiceCoreUnitTest {
                         todoRequest_valid_fromClient.getDescription(),
                         VALID_OWNER_UID
                 );
+        verify(eventPublisher).publishEvent(TodoEvent.created(VALID_OWNER_UID, expectedView));
 
         // verifyNoMoreInteractions On mutable operations with strict contract
         verifyNoMoreInteractions(todoRepository, todoMapper);
     }
 
+    @Test
+    void givenValidTodoRequests_whenCreateAll_thenSavesAllInOneCallAndReturnsTodoViews() {
+        // Arrange
+        List<TodoRequest> validRequests = List.of(todoRequest_valid_fromClient, todoRequest_validUpdate_fromClient);
+        when(todoMapper.toTodo(todoRequest_valid_fromClient)).thenReturn(Todo.builder().title("Task 1").build());
+        when(todoMapper.toTodo(todoRequest_validUpdate_fromClient)).thenReturn(Todo.builder().title("Task 2").build());
+        when(todoRepository.saveAll(anyList())).thenReturn(List.of(todo_instance1_fromRepository, todo_instance2_fromRepository));
+        when(todoMapper.toTodoView(todo_instance1_fromRepository)).thenReturn(todoView_mapped1_fromTodoInstance);
+        when(todoMapper.toTodoView(todo_instance2_fromRepository)).thenReturn(todoView_mapped2_fromTodoInstance);
+
+        // Act
+        List<TodoView> result = todoService.createAll(VALID_OWNER_UID, validRequests);
+
+        // Assert
+        assertThat(result).isEqualTo(List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Todo>> saved = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository).saveAll(saved.capture());
+        assertThat(saved.getValue().stream().map(Todo::getOwnerUid).toList())
+                .isEqualTo(List.of(VALID_OWNER_UID, VALID_OWNER_UID));
+        verify(eventPublisher).publishEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped1_fromTodoInstance));
+        verify(eventPublisher).publishEvent(TodoEvent.created(VALID_OWNER_UID, todoView_mapped2_fromTodoInstance));
+
+        verifyNoMoreInteractions(todoRepository, todoMapper);
+    }
+
     @Test
     void givenMultipleTodosExist_whenReadAll_thenReturnsTodoViewList() {
         // Arrange
-        List<Todo> todos = List.of(todo_instance1_fromRepository, todo_instance2_fromRepository);
-        Page<Todo> todosPaged = new PageImpl<>(todos, pageable_firstPageSize10_fromClient, todos.size());
-        when(todoRepository.findByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient)).thenReturn(todosPaged);
         List<TodoView> expectedViews = List.of(todoView_instance1_fromRepository, todoView_instance2_fromRepository);
-        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(expectedViews.get(0), expectedViews.get(1));
+        Page<TodoView> todosPaged = new PageImpl<>(expectedViews, pageable_firstPageSize10_fromClient, expectedViews.size());
+        when(todoRepository.findViewsByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient)).thenReturn(todosPaged);
 
         // Act
-        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
+        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, pageable_firstPageSize10_fromClient).getPage();
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEqualTo(expectedViews);
-        verify(todoRepository).findByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
+        verify(todoRepository).findViewsByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
+        verifyNoInteractions(todoMapper);
+    }
+
+    @Test
+    void givenStoredVersion_whenReadAll_thenPageCarriesVersionReadBeforeIt() {
+        // Arrange
+        Page<TodoView> todosPaged = new PageImpl<>(List.of(todoView_instance1_fromRepository), pageable_firstPageSize10_fromClient, 1);
+        when(todoVersionService.readStoredVersion(VALID_OWNER_UID)).thenReturn(3L);
+        when(todoRepository.findViewsByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient)).thenReturn(todosPaged);
+
+        // Act
+        VersionedTodoPage result = todoService.readAll(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
+
+        // Assert
+        assertThat(result.getVersion()).isEqualTo(3L);
+        assertThat(result.getPage().getContent()).isEqualTo(todosPaged.getContent());
+        InOrder inOrder = inOrder(todoVersionService, todoRepository);
+        inOrder.verify(todoVersionService).readStoredVersion(VALID_OWNER_UID);
+        inOrder.verify(todoRepository).findViewsByOwnerUid(VALID_OWNER_UID, pageable_firstPageSize10_fromClient);
     }
 
     @Test
     void givenExistingTodo_whenRead_thenReturnsTodoView() {
         // Arrange
-        Todo todo = todo_existing_fromRepository;
-        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(todo));
-        TodoView expectedView = todoView_expected_fromFoundTodo;
-        when(todoMapper.toTodoView(todo)).thenReturn(expectedView);
+        CachedTodo cachedTodo = cachedTodo_existing_fromCache;
+        when(todoCacheService.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(cachedTodo));
 
         // Act
         TodoView result = todoService.read(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID);
+        TodoView secondResult = todoService.read(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID);
 
         // Assert
-        assertThat(result).isEqualTo(expectedView);
-        verify(todoRepository).findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID);
+        assertThat(result).isEqualTo(todoView_expected_fromCachedTodo);
+        // The cached entry is shared: each read gets a view of its own
+        assertThat(secondResult).isEqualTo(result).isNotSameAs(result);
+        verify(todoCacheService, times(2)).findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID);
+        verifyNoInteractions(todoMapper);
         // no verifyNoMoreInteractions on read only operations
     }
 
     @Test
     void givenNonExistingTodo_whenRead_thenThrowsException() {
         // Arrange
-        when(todoRepository.findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.empty());
+        when(todoCacheService.findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> todoService.read(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID))
                 .isInstanceOf(EntityNotFoundRestException.class);
-        verify(todoRepository).findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID);
+        verify(todoCacheService).findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID);
+    }
+
+    @Test
+    void givenTodoOfAnotherOwner_whenRead_thenThrowsException() {
+        // Arrange
+        // a cache hit is keyed by id alone and may hold another owner's todo
+        when(todoCacheService.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, "another-user-456")).thenReturn(Optional.of(cachedTodo_existing_fromCache));
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.read("another-user-456", VALID_EXISTENT_TODO_ID))
+                .isInstanceOf(EntityNotFoundRestException.class);
+        verifyNoInteractions(todoMapper);
+    }
+
+    @Test
+    void givenOwner_whenReadSummary_thenSummaryIsServedByCounterService() {
+        // Arrange
+        TodoSummary expectedSummary = new TodoSummary(3L, 2L, 1L, 1L);
+        when(todoCounterService.summarize(VALID_OWNER_UID)).thenReturn(expectedSummary);
+
+        // Act
+        TodoSummary result = todoService.readSummary(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(result).isEqualTo(expectedSummary);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void givenReadMethods_whenTheirTransactionsAreDeclared_thenNoneIsReadWrite() {
+        // Arrange
+        // The class-level read-write transaction would send a read to the primary, with flush and dirty checking
+        List<Method> readMethods = Arrays.stream(TodoService.class.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && method.getName().startsWith("read"))
+                .toList();
+
+        // Act
+        List<String> readWriteMethods = readMethods.stream()
+                .filter(method -> {
+                    Transactional transactional = method.getAnnotation(Transactional.class);
+                    return transactional == null
+                            || (!transactional.readOnly() && transactional.propagation() != Propagation.SUPPORTS);
+                })
+                .map(Method::getName)
+                .toList();
+
+        // Assert
+        Assertions.assertThat(readMethods).isNotEmpty();
+        Assertions.assertThat(readWriteMethods).isEmpty();
     }
 
     @Test
     void givenValidTodoRequest_whenUpdate_thenReturnsUpdatedTodoView() {
         // Arrange
         TodoRequest validRequest = todoRequest_validUpdate_fromClient;
-        Todo existingTodo = todo_existing_fromRepository;
-        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(existingTodo));
         when(todoMapper.toTodo(validRequest)).thenReturn(todo_mapped_fromUpdateTodoRequest);
-        when(todoRepository.save(existingTodo)).thenReturn(todo_saved_fromMappedTodo);
+        Todo previousTodo = Todo.builder().id(VALID_EXISTENT_TODO_ID).title("Task").description("Desc")
+                .isCompleted(Boolean.FALSE).ownerUid(VALID_OWNER_UID).build();
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, null))
+                .thenReturn(Optional.of(previousTodo));
+        TodoView previousView = TodoView.builder().id(VALID_EXISTENT_TODO_ID).title("Task").description("Desc").isCompleted(Boolean.FALSE).build();
         TodoView expectedView = todoView_mapped_fromSavedTodo;
-        when(todoMapper.toTodoView(todo_saved_fromMappedTodo)).thenReturn(expectedView);
+        when(todoMapper.toTodoView(previousTodo)).thenReturn(previousView, expectedView);
 
         // Act
-        TodoView result = todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, validRequest);
+        TodoView result = todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, validRequest, null);
 
         // Assert
         assertThat(result).isEqualTo(expectedView);
-
-        ArgumentCaptor<Todo> saved = ArgumentCaptor.forClass(Todo.class);
-        verify(todoRepository).save(saved.capture());
-        assertThat(saved.getValue())
-                .extracting(Todo::getTitle, Todo::getDescription, Todo::getOwnerUid)
-                .containsExactly(
-                        todoRequest_validUpdate_fromClient.getTitle(),
-                        todoRequest_validUpdate_fromClient.getDescription(),
-                        VALID_OWNER_UID
-                );
+        assertThat(previousTodo.getTitle()).isEqualTo(todo_saved_fromMappedTodo.getTitle());
+        assertThat(previousTodo.getDescription()).isEqualTo(todo_saved_fromMappedTodo.getDescription());
+        verify(todoRepository).updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, null);
+        verify(eventPublisher).publishEvent(TodoEvent.updated(VALID_OWNER_UID, previousView, expectedView));
 
         verifyNoMoreInteractions(todoRepository, todoMapper);
     }
@@ -144,37 +269,154 @@ class TodoServiceCoreUnitTest {
     @Test
     void givenNonExistingTodo_whenUpdate_thenThrowsException() {
         // Arrange
+        when(todoMapper.toTodo(todoRequest_validUpdate_fromClient)).thenReturn(todo_mapped_fromUpdateTodoRequest);
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, null))
+                .thenReturn(Optional.empty());
         when(todoRepository.findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> todoService.update(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID, todoRequest_validUpdate_fromClient))
+        assertThatThrownBy(() -> todoService.update(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID, todoRequest_validUpdate_fromClient, null))
                 .isInstanceOf(EntityNotFoundRestException.class);
+        verify(todoRepository).updatePendingByIdAndOwnerUidReturningPrevious(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, null);
         verify(todoRepository).findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID);
         verifyNoMoreInteractions(todoRepository, todoMapper); // On error/short-circuit path
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void givenExpectedVersion_whenUpdate_thenReturnedTodoIsAtNextVersion() {
+        // Arrange
+        when(todoMapper.toTodo(todoRequest_validUpdate_fromClient)).thenReturn(todo_mapped_fromUpdateTodoRequest);
+        Todo previousTodo = Todo.builder().id(VALID_EXISTENT_TODO_ID).title("Task").description("Desc")
+                .isCompleted(Boolean.FALSE).ownerUid(VALID_OWNER_UID).version(EXPECTED_TODO_VERSION).build();
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, EXPECTED_TODO_VERSION))
+                .thenReturn(Optional.of(previousTodo));
+        when(todoMapper.toTodoView(previousTodo)).thenAnswer(invocation -> TodoView.builder()
+                .id(VALID_EXISTENT_TODO_ID).version(previousTodo.getVersion()).build());
+
+        // Act
+        TodoView result = todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoRequest_validUpdate_fromClient, EXPECTED_TODO_VERSION);
+
+        // Assert
+        assertThat(result.getVersion()).isEqualTo(EXPECTED_TODO_VERSION + 1);
+        verify(eventPublisher).publishEvent(any(TodoEvent.class));
     }
 
     @Test
-    void givenExistingTodo_whenDelete_thenRemovesTodo() {
+    void givenTodoModifiedSinceExpectedVersion_whenUpdate_thenPreconditionFails() {
+        // Arrange
+        when(todoMapper.toTodo(todoRequest_validUpdate_fromClient)).thenReturn(todo_mapped_fromUpdateTodoRequest);
+        when(todoRepository.updatePendingByIdAndOwnerUidReturningPrevious(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, todo_mapped_fromUpdateTodoRequest, EXPECTED_TODO_VERSION))
+                .thenReturn(Optional.empty());
+        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID))
+                .thenReturn(Optional.of(todo_modifiedSinceExpectedVersion_fromRepository));
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.update(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, todoRequest_validUpdate_fromClient, EXPECTED_TODO_VERSION))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(PRECONDITION_FAILED);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void givenTodoModifiedSinceExpectedVersion_whenDelete_thenPreconditionFails() {
+        // Arrange
+        when(todoRepository.deleteByIdAndOwnerUidReturning(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, EXPECTED_TODO_VERSION))
+                .thenReturn(Optional.empty());
+        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID))
+                .thenReturn(Optional.of(todo_modifiedSinceExpectedVersion_fromRepository));
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.delete(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, EXPECTED_TODO_VERSION))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(PRECONDITION_FAILED);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void givenExistingTodo_whenDelete_thenRemovesTodoWithSingleStatement() {
         // Arrange
         Todo todo = todo_existing_fromRepository;
-        when(todoRepository.findByIdAndOwnerUid(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.of(todo));
+        when(todoRepository.deleteByIdAndOwnerUidReturning(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, null)).thenReturn(Optional.of(todo));
+        when(todoMapper.toTodoView(todo)).thenReturn(todoView_expected_fromFoundTodo);
 
         // Act
-        todoService.delete(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID);
+        todoService.delete(VALID_OWNER_UID, VALID_EXISTENT_TODO_ID, null);
 
         // Assert
-        verify(todoRepository).delete(todo);
+        verify(todoRepository).deleteByIdAndOwnerUidReturning(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID, null);
+        verify(eventPublisher).publishEvent(TodoEvent.deleted(VALID_OWNER_UID, todoView_expected_fromFoundTodo));
+        verifyNoMoreInteractions(todoRepository);
     }
 
     @Test
     void givenNonExistingTodo_whenDelete_thenThrowsException() {
         // Arrange
+        when(todoRepository.deleteByIdAndOwnerUidReturning(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, null)).thenReturn(Optional.empty());
         when(todoRepository.findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> todoService.delete(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID))
+        assertThatThrownBy(() -> todoService.delete(VALID_OWNER_UID, VALID_NON_EXISTENT_TODO_ID, null))
                 .isInstanceOf(EntityNotFoundRestException.class);
+        verify(todoRepository).deleteByIdAndOwnerUidReturning(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID, null);
         verify(todoRepository).findByIdAndOwnerUid(VALID_NON_EXISTENT_TODO_ID, VALID_OWNER_UID);
         verifyNoMoreInteractions(todoRepository, todoMapper);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void givenExistingAndMissingIds_whenDeleteAll_thenOutcomesReflectDeletedRows() {
+        // Arrange
+        List<Long> ids = List.of(VALID_EXISTENT_TODO_ID, VALID_NON_EXISTENT_TODO_ID);
+        Todo todo = todo_existing_fromRepository;
+        when(todoRepository.deleteAllByOwnerUidAndIdInReturning(VALID_OWNER_UID, ids)).thenReturn(List.of(todo));
+        when(todoMapper.toTodoView(todo)).thenReturn(todoView_expected_fromFoundTodo);
+
+        // Act
+        List<TodoBulkOutcome> result = todoService.deleteAll(VALID_OWNER_UID, new TodoBulkDelete(ids));
+
+        // Assert
+        assertThat(result).isEqualTo(List.of(
+                new TodoBulkOutcome(VALID_EXISTENT_TODO_ID, TodoBulkStatus.DELETED),
+                new TodoBulkOutcome(VALID_NON_EXISTENT_TODO_ID, TodoBulkStatus.NOT_FOUND)
+        ));
+        verify(eventPublisher).publishEvent(TodoEvent.deleted(VALID_OWNER_UID, todoView_expected_fromFoundTodo));
+        verifyNoMoreInteractions(todoRepository, eventPublisher);
+    }
+
+    @Test
+    void givenOwnerTodos_whenExportAll_thenEveryTodoReachesSinkAndStreamIsClosed() {
+        // Arrange
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        when(todoRepository.streamByOwnerUid(VALID_OWNER_UID)).thenReturn(
+                Stream.of(todo_instance1_fromRepository, todo_instance2_fromRepository).onClose(() -> streamClosed.set(true)));
+        when(todoMapper.toTodoView(todo_instance1_fromRepository)).thenReturn(todoView_mapped1_fromTodoInstance);
+        when(todoMapper.toTodoView(todo_instance2_fromRepository)).thenReturn(todoView_mapped2_fromTodoInstance);
+        List<TodoView> exportedTodos = new ArrayList<>();
+
+        // Act
+        todoService.exportAll(VALID_OWNER_UID, exportedTodos::add);
+
+        // Assert
+        Assertions.assertThat(exportedTodos).containsExactly(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        assertThat(streamClosed.get()).isTrue();
+    }
+
+    @Test
+    void givenFailingSink_whenExportAll_thenExportStopsAndStreamIsClosed() {
+        // Arrange
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        when(todoRepository.streamByOwnerUid(VALID_OWNER_UID)).thenReturn(
+                Stream.of(todo_instance1_fromRepository, todo_instance2_fromRepository).onClose(() -> streamClosed.set(true)));
+        when(todoMapper.toTodoView(todo_instance1_fromRepository)).thenReturn(todoView_mapped1_fromTodoInstance);
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.exportAll(VALID_OWNER_UID, todoView -> {
+            throw new UncheckedIOException(new IOException("Broken pipe"));
+        })).isInstanceOf(UncheckedIOException.class);
+        assertThat(streamClosed.get()).isTrue();
+        verify(todoMapper, never()).toTodoView(todo_instance2_fromRepository);
     }
 }
@@ -0,0 +1,95 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.model.Todo;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+
+/**
+ * Hammers a single todo on PostgreSQL with conditional patches from many threads, each appending a mark to the
+ * description it last read. Every accepted patch must bump the version exactly once and keep every earlier mark; the
+ * others must fail their precondition instead of overwriting a concurrent write.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgreSQLTestContainersConfig.class)
+class TodoServiceOptimisticConcurrencyIT {
+    private static final Logger log = LoggerFactory.getLogger(TodoServiceOptimisticConcurrencyIT.class);
+    private static final String OWNER_UID = "contention-owner";
+    private static final int THREAD_COUNT = 16;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+    private static final String MARK = "x";
+
+    @Autowired
+    private ITodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void givenManyThreadsPatchingOneTodo_whenPatchesCarryTheVersionTheyRead_thenNoUpdateIsLost() throws Exception {
+        // Arrange
+        TodoView todo = todoService.create(OWNER_UID, new TodoRequest("Contended", MARK, false, null));
+        AtomicInteger acceptedPatches = new AtomicInteger();
+        AtomicInteger failedPreconditions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // Act
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    Todo current = todoRepository.findByIdAndOwnerUid(todo.getId(), OWNER_UID).orElseThrow();
+                    TodoPatch appendMark = new TodoPatch(null, current.getDescription() + MARK, null, null);
+                    try {
+                        todoService.patch(OWNER_UID, todo.getId(), appendMark, current.getVersion());
+                        acceptedPatches.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        assertThat(e.getStatusCode()).isEqualTo(PRECONDITION_FAILED);
+                        failedPreconditions.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        Todo stored = todoRepository.findByIdAndOwnerUid(todo.getId(), OWNER_UID).orElseThrow();
+        log.info("{} patches accepted, {} failed their precondition", acceptedPatches.get(), failedPreconditions.get());
+
+        assertThat(acceptedPatches.get() + failedPreconditions.get()).isEqualTo(THREAD_COUNT * ATTEMPTS_PER_THREAD);
+        assertThat(acceptedPatches.get()).isPositive();
+        assertThat(stored.getVersion()).isEqualTo(acceptedPatches.get());
+        assertThat(stored.getDescription()).hasSize(1 + acceptedPatches.get());
+    }
+}
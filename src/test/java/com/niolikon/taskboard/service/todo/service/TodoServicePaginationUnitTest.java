@@ -1,6 +1,9 @@
 package com.niolikon.taskboard.service.todo.service;
 
 import com.niolikon.taskboard.framework.data.dto.PageResponse;
+import com.niolikon.taskboard.service.data.dto.CursorPageResponse;
+import com.niolikon.taskboard.service.data.dto.SliceResponse;
+import com.niolikon.taskboard.service.todo.TodoArchiveRepository;
 import com.niolikon.taskboard.service.todo.TodoMapper;
 import com.niolikon.taskboard.service.todo.TodoRepository;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
@@ -11,15 +14,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.assertj.core.api.Assertions;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 import static com.niolikon.taskboard.service.todo.service.testdata.TodoServiceTestData.*;
 
@@ -29,7 +48,19 @@ class TodoServicePaginationUnitTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+    @Mock
     private TodoMapper todoMapper;
+    @Mock
+    private TodoCounterService todoCounterService;
+    @Mock
+    private TodoCacheService todoCacheService;
+    @Mock
+    private TodoVersionService todoVersionService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private Clock clock;
     @InjectMocks
     private TodoService todoService;
 
@@ -39,16 +70,12 @@ class TodoServicePaginationUnitTest {
     void givenQueryProducesMultiplePages_whenClientRequestsFirstPage_thenReturnsFirstPageWithMetadata() {
         // Arrange
         Pageable firstPage = pageable_firstPageSize2_fromClient;
-        List<Todo> todos = List.of(todo_instance1_fromRepository, todo_instance2_fromRepository);
-        Page<Todo> todosPaged = new PageImpl<>(todos, firstPage, 5);
-        when(todoRepository.findByOwnerUid(VALID_OWNER_UID, firstPage)).thenReturn(todosPaged);
-        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(
-                todoView_mapped1_fromTodoInstance,
-                todoView_mapped2_fromTodoInstance
-        );
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        Page<TodoView> todosPaged = new PageImpl<>(todos, firstPage, 5);
+        when(todoRepository.findViewsByOwnerUid(VALID_OWNER_UID, firstPage)).thenReturn(todosPaged);
 
         // Act
-        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, firstPage);
+        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, firstPage).getPage();
 
         // Assert
         Assertions.assertThat(result.getContent()).hasSize(2);
@@ -65,7 +92,8 @@ class TodoServicePaginationUnitTest {
                 )
                 .containsExactly(2, 5L, 0, 2, 3, true, false, false);
 
-        verify(todoRepository).findByOwnerUid(VALID_OWNER_UID, firstPage);
+        verify(todoRepository).findViewsByOwnerUid(VALID_OWNER_UID, firstPage);
+        verifyNoInteractions(todoMapper);
     }
 
     @Test
@@ -74,17 +102,13 @@ class TodoServicePaginationUnitTest {
     void givenQueryProducesMultiplePages_whenClientRequestsSpecificPage_thenCorrectPageReturnedWithMetadata() {
         // Arrange
         Pageable secondPage = pageable_secondPageSize2_fromClient;
-        List<Todo> todos = List.of(todo_instance3_fromRepository, todo_instance4_fromRepository);
-        Page<Todo> todosPaged = new PageImpl<>(todos, secondPage, 5);
+        List<TodoView> todos = List.of(todoView_mapped3_fromTodoInstance, todoView_mapped4_fromTodoInstance);
+        Page<TodoView> todosPaged = new PageImpl<>(todos, secondPage, 5);
 
-        when(todoRepository.findByOwnerUid(VALID_OWNER_UID, secondPage)).thenReturn(todosPaged);
-        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(
-                todoView_mapped3_fromTodoInstance,
-                todoView_mapped4_fromTodoInstance
-        );
+        when(todoRepository.findViewsByOwnerUid(VALID_OWNER_UID, secondPage)).thenReturn(todosPaged);
 
         // Act
-        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, secondPage);
+        PageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, secondPage).getPage();
 
         // Assert
         Assertions.assertThat(result.getContent()).hasSize(2);
@@ -101,6 +125,213 @@ class TodoServicePaginationUnitTest {
                 )
                 .containsExactly(2, 5L, 1, 2, 3, false, false, false);
 
-        verify(todoRepository).findByOwnerUid(VALID_OWNER_UID, secondPage);
+        verify(todoRepository).findViewsByOwnerUid(VALID_OWNER_UID, secondPage);
+    }
+
+    @Test
+    void givenQueryProducesMultipleWindows_whenClientRequestsFirstCursorPage_thenReturnsPageWithNextCursor() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<Todo> todos = List.of(todo_instance1_fromRepository, todo_instance2_fromRepository);
+        Window<Todo> todosWindow = Window.from(todos,
+                index -> ScrollPosition.forward(Map.of("id", todos.get(index).getId())), true);
+        when(todoRepository.findByOwnerUid(VALID_OWNER_UID, ScrollPosition.keyset(), Limit.of(2), firstPage.getSort()))
+                .thenReturn(todosWindow);
+        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(
+                todoView_mapped1_fromTodoInstance,
+                todoView_mapped2_fromTodoInstance
+        );
+
+        // Act
+        CursorPageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, "", firstPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).hasSize(2);
+        assertThat(result)
+                .extracting(
+                        CursorPageResponse::getElementsSize,
+                        CursorPageResponse::getPageSize,
+                        CursorPageResponse::isLast
+                )
+                .containsExactly(2, 2, false);
+        assertThat(result.getNext()).isNotBlank();
+    }
+
+    @Test
+    void givenCursorFromPreviousPage_whenClientRequestsNextCursorPage_thenQueryResumesAfterLastElement() {
+        // Arrange
+        Pageable nextPage = pageable_firstPageSize2_fromClient;
+        String after = TodoCursorCodec.encode(ScrollPosition.forward(Map.of("id", todo_instance2_fromRepository.getId())));
+        KeysetScrollPosition expectedPosition = ScrollPosition.forward(Map.of("id", todo_instance2_fromRepository.getId()));
+        List<Todo> todos = List.of(todo_instance3_fromRepository);
+        Window<Todo> todosWindow = Window.from(todos,
+                index -> ScrollPosition.forward(Map.of("id", todos.get(index).getId())), false);
+        when(todoRepository.findByOwnerUid(VALID_OWNER_UID, expectedPosition, Limit.of(2), nextPage.getSort()))
+                .thenReturn(todosWindow);
+        when(todoMapper.toTodoView(any(Todo.class))).thenReturn(todoView_mapped3_fromTodoInstance);
+
+        // Act
+        CursorPageResponse<TodoView> result = todoService.readAll(VALID_OWNER_UID, after, nextPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).containsExactly(todoView_mapped3_fromTodoInstance);
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.getNext()).isNull();
+    }
+
+    @Test
+    void givenMalformedCursor_whenClientRequestsCursorPage_thenThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.readAll(VALID_OWNER_UID, "not-a-cursor", pageable_firstPageSize2_fromClient))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(todoRepository, todoMapper);
+    }
+
+    @Test
+    void givenQueryProducesMultiplePages_whenClientRequestsPageWithoutTotal_thenReturnsSliceWithoutCounting() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoRepository.findViewSliceByOwnerUid(VALID_OWNER_UID, firstPage)).thenReturn(new SliceImpl<>(todos, firstPage, true));
+
+        // Act
+        SliceResponse<TodoView> result = todoService.readAllWithoutTotal(VALID_OWNER_UID, firstPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).hasSize(2);
+        assertThat(result)
+                .extracting(
+                        SliceResponse::getElementsSize,
+                        SliceResponse::getPageNumber,
+                        SliceResponse::getPageSize,
+                        SliceResponse::isFirst,
+                        SliceResponse::isLast,
+                        SliceResponse::isEmpty
+                )
+                .containsExactly(2, 0, 2, true, false, false);
+        verify(todoRepository, never()).findViewsByOwnerUid(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void givenOwnerCounterExists_whenClientRequestsPageWithEstimatedTotal_thenTotalIsServedFromCounter() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoCounterService.find(VALID_OWNER_UID)).thenReturn(Optional.of(todoCounter_existing_fromRepository));
+        when(todoRepository.findViewSliceByOwnerUidAndIsCompleted(VALID_OWNER_UID, Boolean.FALSE, firstPage))
+                .thenReturn(new SliceImpl<>(todos, firstPage, true));
+
+        // Act
+        PageResponse<TodoView> result = todoService.readAllPendingWithEstimatedTotal(VALID_OWNER_UID, firstPage);
+
+        // Assert
+        assertThat(result)
+                .extracting(
+                        PageResponse::getElementsSize,
+                        PageResponse::getElementsTotal,
+                        PageResponse::getPageTotal,
+                        PageResponse::isLast
+                )
+                .containsExactly(2, todoCounter_existing_fromRepository.getPendingCount(), 20, false);
+        verify(todoRepository, never()).findViewsByOwnerUidAndIsCompleted(anyString(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void givenNoOwnerCounter_whenClientRequestsPageWithEstimatedTotal_thenTotalIsCounted() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoCounterService.find(VALID_OWNER_UID)).thenReturn(Optional.empty());
+        when(todoRepository.findViewsByOwnerUid(VALID_OWNER_UID, firstPage)).thenReturn(new PageImpl<>(todos, firstPage, 5));
+
+        // Act
+        PageResponse<TodoView> result = todoService.readAllWithEstimatedTotal(VALID_OWNER_UID, firstPage);
+
+        // Assert
+        assertThat(result.getElementsTotal()).isEqualTo(5L);
+        verify(todoRepository).findViewsByOwnerUid(VALID_OWNER_UID, firstPage);
+    }
+
+    @Test
+    void givenArchivedTodos_whenClientRequestsArchivedPage_thenPageIsReadFromArchive() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoArchiveRepository.findViewsByOwnerUid(VALID_OWNER_UID, firstPage)).thenReturn(new PageImpl<>(todos, firstPage, 3));
+
+        // Act
+        PageResponse<TodoView> result = todoService.readAllArchived(VALID_OWNER_UID, firstPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).isEqualTo(todos);
+        assertThat(result.getElementsTotal()).isEqualTo(3L);
+        verify(todoArchiveRepository).findViewsByOwnerUid(VALID_OWNER_UID, firstPage);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void givenPaddedQuery_whenClientSearches_thenTrimmedQueryIsRunAndPageIsReturned() {
+        // Arrange
+        Pageable firstPage = pageable_firstPageSize2_fromClient;
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoRepository.searchViewsByOwnerUid(VALID_OWNER_UID, "milk", firstPage)).thenReturn(new PageImpl<>(todos, firstPage, 3));
+
+        // Act
+        PageResponse<TodoView> result = todoService.search(VALID_OWNER_UID, "  milk ", firstPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).isEqualTo(todos);
+        assertThat(result.getElementsTotal()).isEqualTo(3L);
+        verify(todoRepository).searchViewsByOwnerUid(VALID_OWNER_UID, "milk", firstPage);
+    }
+
+    @Test
+    void givenAgendaPage_whenClientRequestsOverdue_thenPendingTodosDueBeforeTodayAreRead() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 1, 15);
+        when(clock.instant()).thenReturn(today.atTime(10, 0).toInstant(ZoneOffset.UTC));
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        Pageable agendaPage = PageRequest.of(0, 2, Sort.by("dueDate", "id"));
+        List<TodoView> todos = List.of(todoView_mapped1_fromTodoInstance, todoView_mapped2_fromTodoInstance);
+        when(todoRepository.findPendingViewsByOwnerUidAndDueDateBefore(VALID_OWNER_UID, today, agendaPage))
+                .thenReturn(new PageImpl<>(todos, agendaPage, 2));
+
+        // Act
+        PageResponse<TodoView> result = todoService.readAllOverdue(VALID_OWNER_UID, agendaPage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).isEqualTo(todos);
+        verify(todoRepository).findPendingViewsByOwnerUidAndDueDateBefore(VALID_OWNER_UID, today, agendaPage);
+    }
+
+    @Test
+    void givenSortedPage_whenClientRequestsDueRange_thenClientSortIsKept() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 1, 13);
+        LocalDate to = LocalDate.of(2025, 1, 19);
+        Pageable titlePage = PageRequest.of(1, 2, Sort.by("title"));
+        List<TodoView> todos = List.of(todoView_mapped3_fromTodoInstance);
+        when(todoRepository.findPendingViewsByOwnerUidAndDueDateBetween(VALID_OWNER_UID, from, to, titlePage))
+                .thenReturn(new PageImpl<>(todos, titlePage, 3));
+
+        // Act
+        PageResponse<TodoView> result = todoService.readAllDue(VALID_OWNER_UID, from, to, titlePage);
+
+        // Assert
+        Assertions.assertThat(result.getContent()).isEqualTo(todos);
+        assertThat(result.getElementsTotal()).isEqualTo(3L);
+        verify(todoRepository).findPendingViewsByOwnerUidAndDueDateBetween(VALID_OWNER_UID, from, to, titlePage);
+    }
+
+    @Test
+    void givenRangeEndingBeforeItStarts_whenClientRequestsDueRange_thenBadRequestIsThrown() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 1, 19);
+        LocalDate to = LocalDate.of(2025, 1, 13);
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoService.readAllDue(VALID_OWNER_UID, from, to, pageable_firstPageSize2_fromClient))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(todoRepository);
     }
 }
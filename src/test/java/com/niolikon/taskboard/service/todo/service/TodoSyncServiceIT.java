@@ -0,0 +1,87 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.framework.test.containers.PostgreSQLTestContainersConfig;
+import com.niolikon.taskboard.service.todo.dto.TodoBulkPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+import com.niolikon.taskboard.service.todo.dto.TodoPatch;
+import com.niolikon.taskboard.service.todo.dto.TodoRequest;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Syncs an owner's todos on PostgreSQL page by page, then again after single, bulk and deleting writes: the second
+ * sync must hand out exactly the changed todos, with the deleted one as a tombstone, and nothing of other owners.
+ * The commit lag is off, so that a sync does not hand out the changes of the previous one again.
+ */
+@SpringBootTest(properties = "taskboard.sync.commit-lag=PT0S")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgreSQLTestContainersConfig.class)
+class TodoSyncServiceIT {
+    private static final String OWNER_UID = "sync-owner";
+    private static final String OTHER_OWNER_UID = "sync-other-owner";
+    private static final int TODO_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ITodoService todoService;
+
+    @Autowired
+    private ITodoSyncService todoSyncService;
+
+    @Test
+    void givenSyncedOwner_whenTodosAreWrittenAndSyncedAgain_thenOnlyTheChangesAreReturned() throws Exception {
+        // Arrange
+        List<TodoView> todos = todoService.createAll(OWNER_UID, IntStream.range(0, TODO_COUNT)
+                .mapToObj(i -> new TodoRequest("Task " + i, "Description " + i, false, null))
+                .toList());
+        todoService.create(OTHER_OWNER_UID, new TodoRequest("Other", "Not synced", false, null));
+        List<TodoChange> initialChanges = new ArrayList<>();
+        String since = syncAll(null, initialChanges);
+        // The database clock must move past the initial sync
+        Thread.sleep(10);
+
+        TodoView patched = todos.get(3);
+        TodoView bulkPatched = todos.get(7);
+        TodoView deleted = todos.get(11);
+        todoService.patch(OWNER_UID, patched.getId(), new TodoPatch(null, "Patched", null, null), null);
+        todoService.patchAll(OWNER_UID, new TodoBulkPatch(List.of(bulkPatched.getId()), new TodoPatch("Bulk", null, null, null)));
+        todoService.delete(OWNER_UID, deleted.getId(), null);
+
+        // Act
+        List<TodoChange> deltaChanges = new ArrayList<>();
+        syncAll(since, deltaChanges);
+
+        // Assert
+        assertThat(initialChanges)
+                .extracting(TodoChange::getTodoId)
+                .containsExactlyInAnyOrderElementsOf(todos.stream().map(TodoView::getId).toList());
+        assertThat(deltaChanges)
+                .extracting(TodoChange::getTodoId)
+                .containsExactly(patched.getId(), bulkPatched.getId(), deleted.getId());
+        assertThat(deltaChanges.get(0).getTodo().getDescription()).isEqualTo("Patched");
+        assertThat(deltaChanges.get(0).getVersion()).isEqualTo(1L);
+        assertThat(deltaChanges.get(1).getTodo().getTitle()).isEqualTo("Bulk");
+        assertThat(deltaChanges.get(2).getTodo()).isNull();
+    }
+
+    private String syncAll(String since, List<TodoChange> changes) {
+        TodoChangePage changePage;
+        do {
+            changePage = todoSyncService.readChanges(OWNER_UID, since, PAGE_SIZE);
+            changes.addAll(changePage.getChanges());
+            since = changePage.getNext();
+        } while (!changePage.isLast());
+        return since;
+    }
+}
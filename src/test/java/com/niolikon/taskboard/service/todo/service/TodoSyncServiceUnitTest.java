@@ -0,0 +1,167 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.TodoRepository;
+import com.niolikon.taskboard.service.todo.TodoTombstoneRepository;
+import com.niolikon.taskboard.service.todo.dto.TodoChange;
+import com.niolikon.taskboard.service.todo.dto.TodoChangePage;
+import com.niolikon.taskboard.service.todo.dto.TodoView;
+import com.niolikon.taskboard.service.todo.event.TodoEvent;
+import com.niolikon.taskboard.service.todo.model.TodoTombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.GONE;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSyncServiceUnitTest {
+    private static final String OWNER_UID = "test-user-id";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+    private static final Duration COMMIT_LAG = Duration.ofMinutes(1);
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    private TodoSyncService todoSyncService;
+
+    @BeforeEach
+    void setUp() {
+        todoSyncService = new TodoSyncService(todoRepository, todoTombstoneRepository, COMMIT_LAG, TOMBSTONE_RETENTION);
+    }
+
+    @Test
+    void givenNoToken_whenReadChanges_thenAllChangesAreReadAndTheTokenStaysCommitLagBehind() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+        TodoChange updated = updatedChange(1L, NOW.minusHours(1));
+        TodoChange recentlyRemoved = new TodoChange(2L, null, null, NOW.minusSeconds(5));
+        when(todoRepository.findChangesByOwnerUidAfter(OWNER_UID, TodoSyncTokenCodec.INITIAL.changedAt(), 0L, 11))
+                .thenReturn(List.of(updated, recentlyRemoved));
+
+        // Act
+        TodoChangePage changePage = todoSyncService.readChanges(OWNER_UID, null, 10);
+
+        // Assert
+        assertThat(changePage.getChanges()).containsExactly(updated, recentlyRemoved);
+        assertThat(changePage.isLast()).isTrue();
+        assertThat(TodoSyncTokenCodec.decode(changePage.getNext()))
+                .isEqualTo(new TodoSyncTokenCodec.Position(NOW.minus(COMMIT_LAG), 0L));
+    }
+
+    @Test
+    void givenMoreChangesThanSize_whenReadChanges_thenNextResumesAfterTheLastChangeReturned() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+        TodoSyncTokenCodec.Position since = new TodoSyncTokenCodec.Position(NOW.minusDays(1), 7L);
+        TodoChange first = updatedChange(8L, NOW.minusSeconds(30));
+        TodoChange second = updatedChange(3L, NOW.minusSeconds(20));
+        TodoChange beyondPage = updatedChange(9L, NOW.minusSeconds(10));
+        when(todoRepository.findChangesByOwnerUidAfter(OWNER_UID, since.changedAt(), since.id(), 3))
+                .thenReturn(List.of(first, second, beyondPage));
+
+        // Act
+        TodoChangePage changePage = todoSyncService.readChanges(OWNER_UID, TodoSyncTokenCodec.encode(since), 2);
+
+        // Assert
+        assertThat(changePage.getChanges()).containsExactly(first, second);
+        assertThat(changePage.isLast()).isFalse();
+        assertThat(TodoSyncTokenCodec.decode(changePage.getNext()))
+                .isEqualTo(new TodoSyncTokenCodec.Position(NOW.minusSeconds(20), 3L));
+    }
+
+    @Test
+    void givenSettledToken_whenNothingChanged_thenTheSameTokenIsReturned() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+        TodoSyncTokenCodec.Position since = new TodoSyncTokenCodec.Position(NOW.minusHours(2), 4L);
+        when(todoRepository.findChangesByOwnerUidAfter(eq(OWNER_UID), eq(since.changedAt()), eq(since.id()), anyInt()))
+                .thenReturn(List.of());
+
+        // Act
+        TodoChangePage changePage = todoSyncService.readChanges(OWNER_UID, TodoSyncTokenCodec.encode(since), 10);
+
+        // Assert
+        assertThat(changePage.getChanges()).isEmpty();
+        assertThat(TodoSyncTokenCodec.decode(changePage.getNext())).isEqualTo(since);
+    }
+
+    @Test
+    void givenTokenOlderThanTombstoneRetention_whenReadChanges_thenGoneIsThrown() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+        String expiredToken = TodoSyncTokenCodec.encode(
+                new TodoSyncTokenCodec.Position(NOW.minus(TOMBSTONE_RETENTION).minusSeconds(1), 4L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoSyncService.readChanges(OWNER_UID, expiredToken, 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(GONE);
+        verify(todoRepository, never()).findChangesByOwnerUidAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void givenMalformedToken_whenReadChanges_thenBadRequestIsThrown() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+
+        // Act & Assert
+        assertThatThrownBy(() -> todoSyncService.readChanges(OWNER_UID, "not-a-token", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    void givenRemovedTodos_whenTheirEventsArePublished_thenTombstonesAreWritten() {
+        // Arrange
+        TodoView deleted = new TodoView(1L, "Task 1", "Description 1", Boolean.FALSE, null);
+        TodoView archived = new TodoView(2L, "Task 2", "Description 2", Boolean.TRUE, null);
+
+        // Act
+        todoSyncService.onTodoEvent(TodoEvent.deleted(OWNER_UID, deleted));
+        todoSyncService.onTodoEvent(TodoEvent.archived(OWNER_UID, archived));
+        todoSyncService.onTodoEvent(TodoEvent.updated(OWNER_UID, deleted, deleted));
+
+        // Assert
+        verify(todoTombstoneRepository).save(TodoTombstone.builder().todoId(1L).ownerUid(OWNER_UID).build());
+        verify(todoTombstoneRepository).save(TodoTombstone.builder().todoId(2L).ownerUid(OWNER_UID).build());
+        verifyNoMoreInteractions(todoTombstoneRepository);
+    }
+
+    @Test
+    void givenTombstoneRetention_whenPurgeTombstones_thenTombstonesPastItAndTheCommitLagAreDeleted() {
+        // Arrange
+        when(todoRepository.currentTimestamp()).thenReturn(NOW);
+        when(todoTombstoneRepository.deleteRemovedBefore(NOW.minus(TOMBSTONE_RETENTION).minus(COMMIT_LAG), 100)).thenReturn(100);
+
+        // Act
+        int purgedTombstones = todoSyncService.purgeTombstones(100);
+
+        // Assert
+        assertThat(purgedTombstones).isEqualTo(100);
+    }
+
+    private static TodoChange updatedChange(Long id, LocalDateTime changedAt) {
+        TodoView todo = new TodoView(id, "Task " + id, "Description " + id, Boolean.FALSE, LocalDate.of(2025, 1, 20), 2L);
+        return new TodoChange(id, 2L, todo, changedAt);
+    }
+}
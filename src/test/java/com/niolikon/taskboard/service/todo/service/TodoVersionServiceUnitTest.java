@@ -0,0 +1,108 @@
+package com.niolikon.taskboard.service.todo.service;
+
+import com.niolikon.taskboard.service.todo.MutableClock;
+import com.niolikon.taskboard.service.todo.TodoCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.niolikon.taskboard.service.todo.service.testdata.TodoServiceTestData.VALID_OWNER_UID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoVersionServiceUnitTest {
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    @Mock
+    private TodoCounterRepository todoCounterRepository;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private TodoVersionService todoVersionService;
+
+    @BeforeEach
+    void setUp() {
+        todoVersionService = new TodoVersionService(todoCounterRepository, clock, TTL);
+    }
+
+    @Test
+    void givenVersionReadRecently_whenCurrentVersion_thenItIsServedFromMemory() {
+        // Arrange
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.of(3L));
+        todoVersionService.currentVersion(VALID_OWNER_UID);
+        clock.set(START.plusSeconds(4));
+
+        // Act
+        long version = todoVersionService.currentVersion(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(version).isEqualTo(3L);
+        verify(todoCounterRepository, times(1)).findVersionByOwnerUid(VALID_OWNER_UID);
+    }
+
+    @Test
+    void givenExpiredVersion_whenCurrentVersion_thenItIsReadAgain() {
+        // Arrange
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.of(3L), Optional.of(5L));
+        todoVersionService.currentVersion(VALID_OWNER_UID);
+        clock.set(START.plus(TTL));
+
+        // Act
+        long version = todoVersionService.currentVersion(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(version).isEqualTo(5L);
+    }
+
+    @Test
+    void givenOwnerWithoutCounter_whenCurrentVersion_thenInitialVersionIsReturned() {
+        // Arrange
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenReturn(Optional.empty());
+
+        // Act
+        long version = todoVersionService.currentVersion(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(version).isZero();
+    }
+
+    @Test
+    void givenCommittedVersion_whenCurrentVersion_thenItIsServedWithoutReading() {
+        // Arrange
+        todoVersionService.recordCommitted(VALID_OWNER_UID, 9L);
+
+        // Act
+        long version = todoVersionService.currentVersion(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(version).isEqualTo(9L);
+        verifyNoInteractions(todoCounterRepository);
+    }
+
+    @Test
+    void givenReadRacingWithCommit_whenOlderVersionIsRead_thenCommittedVersionIsKept() {
+        // Arrange
+        when(todoCounterRepository.findVersionByOwnerUid(VALID_OWNER_UID)).thenAnswer(invocation -> {
+            // The write commits while the old version is being read
+            todoVersionService.recordCommitted(VALID_OWNER_UID, 6L);
+            return Optional.of(5L);
+        });
+
+        // Act
+        long racingVersion = todoVersionService.currentVersion(VALID_OWNER_UID);
+        long nextVersion = todoVersionService.currentVersion(VALID_OWNER_UID);
+
+        // Assert
+        assertThat(racingVersion).isEqualTo(6L);
+        assertThat(nextVersion).isEqualTo(6L);
+        verify(todoCounterRepository, times(1)).findVersionByOwnerUid(VALID_OWNER_UID);
+    }
+}
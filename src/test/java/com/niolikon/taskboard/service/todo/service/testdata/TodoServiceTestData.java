@@ -4,28 +4,30 @@ import com.niolikon.taskboard.service.todo.dto.TodoPatch;
 import com.niolikon.taskboard.service.todo.dto.TodoRequest;
 import com.niolikon.taskboard.service.todo.dto.TodoView;
 import com.niolikon.taskboard.service.todo.model.Todo;
+import com.niolikon.taskboard.service.todo.model.TodoCounter;
+import com.niolikon.taskboard.service.todo.service.TodoCacheService.CachedTodo;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.time.Instant;
-import java.util.Date;
+import java.time.LocalDate;
 
 public class TodoServiceTestData {
     public static final String VALID_OWNER_UID = "test-user-123";
     public static final Long VALID_EXISTENT_TODO_ID = 1L;
     public static final Long VALID_NON_EXISTENT_TODO_ID = 111L;
+    public static final Long EXPECTED_TODO_VERSION = 4L;
 
-    public static final Instant INSTANT_IN_THE_FUTURE_FIXED = Instant.parse("2125-01-01T12:00:00Z");
+    public static final LocalDate DATE_IN_THE_FUTURE_FIXED = LocalDate.of(2125, 1, 1);
 
-    public static final Todo todo_instance1_fromRepository = new Todo(1L, "Task 1", "Desc 1", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE_FIXED), VALID_OWNER_UID);
-    public static final Todo todo_instance2_fromRepository = new Todo(2L, "Task 2", "Desc 2", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE_FIXED), VALID_OWNER_UID);
-    public static final Todo todo_instance3_fromRepository = new Todo(3L, "Task 3", "Desc 3", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE_FIXED), VALID_OWNER_UID);
-    public static final Todo todo_instance4_fromRepository = new Todo(4L, "Task 4", "Desc 4", Boolean.FALSE, Date.from(INSTANT_IN_THE_FUTURE_FIXED), VALID_OWNER_UID);
+    public static final Todo todo_instance1_fromRepository = new Todo(1L, "Task 1", "Desc 1", Boolean.FALSE, DATE_IN_THE_FUTURE_FIXED, VALID_OWNER_UID, null, null, 0L);
+    public static final Todo todo_instance2_fromRepository = new Todo(2L, "Task 2", "Desc 2", Boolean.FALSE, DATE_IN_THE_FUTURE_FIXED, VALID_OWNER_UID, null, null, 0L);
+    public static final Todo todo_instance3_fromRepository = new Todo(3L, "Task 3", "Desc 3", Boolean.FALSE, DATE_IN_THE_FUTURE_FIXED, VALID_OWNER_UID, null, null, 0L);
+    public static final Todo todo_instance4_fromRepository = new Todo(4L, "Task 4", "Desc 4", Boolean.FALSE, DATE_IN_THE_FUTURE_FIXED, VALID_OWNER_UID, null, null, 0L);
 
-    public static final TodoView todoView_mapped1_fromTodoInstance = new TodoView(1L, "Task 1", "Desc 1", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
-    public static final TodoView todoView_mapped2_fromTodoInstance = new TodoView(2L, "Task 2", "Desc 2", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
-    public static final TodoView todoView_mapped3_fromTodoInstance = new TodoView(3L, "Task 3", "Desc 3", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
-    public static final TodoView todoView_mapped4_fromTodoInstance = new TodoView(4L, "Task 4", "Desc 4", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
+    public static final TodoView todoView_mapped1_fromTodoInstance = new TodoView(1L, "Task 1", "Desc 1", false, DATE_IN_THE_FUTURE_FIXED);
+    public static final TodoView todoView_mapped2_fromTodoInstance = new TodoView(2L, "Task 2", "Desc 2", false, DATE_IN_THE_FUTURE_FIXED);
+    public static final TodoView todoView_mapped3_fromTodoInstance = new TodoView(3L, "Task 3", "Desc 3", false, DATE_IN_THE_FUTURE_FIXED);
+    public static final TodoView todoView_mapped4_fromTodoInstance = new TodoView(4L, "Task 4", "Desc 4", false, DATE_IN_THE_FUTURE_FIXED);
 
     public static final TodoRequest todoRequest_valid_fromClient = TodoRequest.builder()
             .title("New Task").description("Task Description").isCompleted(false).build();
@@ -36,13 +38,17 @@ public class TodoServiceTestData {
     public static final TodoView todoView_expected_fromSavedTodo = TodoView.builder()
             .title("New Task").description("Task Description").isCompleted(false).id(VALID_EXISTENT_TODO_ID).build();
 
-    public static final TodoView todoView_instance1_fromRepository = new TodoView(1L, "Task 1", "Desc 1", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
-    public static final TodoView todoView_instance2_fromRepository = new TodoView(2L, "Task 2", "Desc 2", true, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
+    public static final TodoView todoView_instance1_fromRepository = new TodoView(1L, "Task 1", "Desc 1", false, DATE_IN_THE_FUTURE_FIXED);
+    public static final TodoView todoView_instance2_fromRepository = new TodoView(2L, "Task 2", "Desc 2", true, DATE_IN_THE_FUTURE_FIXED);
 
     public static final Todo todo_existing_fromRepository = Todo.builder()
             .id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID).build();
     public static final TodoView todoView_expected_fromFoundTodo = TodoView.builder()
             .id(VALID_EXISTENT_TODO_ID).title("Existing Task").description("Existing Desc").build();
+    public static final CachedTodo cachedTodo_existing_fromCache = new CachedTodo(VALID_EXISTENT_TODO_ID, VALID_OWNER_UID,
+            "Existing Task", "Existing Desc", Boolean.FALSE, null, 3L);
+    public static final TodoView todoView_expected_fromCachedTodo = new TodoView(VALID_EXISTENT_TODO_ID,
+            "Existing Task", "Existing Desc", Boolean.FALSE, null, 3L);
 
     public static final TodoRequest todoRequest_validUpdate_fromClient = TodoRequest.builder()
             .title("Updated Task").description("Updated Desc").build();
@@ -62,7 +68,14 @@ public class TodoServiceTestData {
             .build();
     public static final Todo todo_existingNonCompleted_fromRepository = Todo.builder()
             .id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID)
-            .title("Title").description("Description").isCompleted(Boolean.FALSE).dueDate(Date.from(INSTANT_IN_THE_FUTURE_FIXED))
+            .title("Title").description("Description").isCompleted(Boolean.FALSE).dueDate(DATE_IN_THE_FUTURE_FIXED)
+            .build();
+    public static final TodoView todoView_mapped_fromExistingNonCompletedTodo = TodoView.builder()
+            .id(VALID_EXISTENT_TODO_ID)
+            .title(todo_existingNonCompleted_fromRepository.getTitle())
+            .description(todo_existingNonCompleted_fromRepository.getDescription())
+            .isCompleted(todo_existingNonCompleted_fromRepository.getIsCompleted())
+            .dueDate(todo_existingNonCompleted_fromRepository.getDueDate())
             .build();
     public static final Todo todo_patchedAndSaved_fromRepository = Todo.builder()
             .id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID)
@@ -81,7 +94,7 @@ public class TodoServiceTestData {
 
     public static final Todo todo_existingCompleted_fromRepository = Todo.builder()
             .id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID)
-            .title("Title").description("Description").isCompleted(Boolean.TRUE).dueDate(Date.from(INSTANT_IN_THE_FUTURE_FIXED))
+            .title("Title").description("Description").isCompleted(Boolean.TRUE).dueDate(DATE_IN_THE_FUTURE_FIXED)
             .build();
     public static final TodoView todoView_mapped_fromExistingTodo = TodoView.builder()
             .id(VALID_EXISTENT_TODO_ID)
@@ -91,20 +104,30 @@ public class TodoServiceTestData {
             .dueDate(todo_existingCompleted_fromRepository.getDueDate())
             .build();
 
+    public static final Todo todo_modifiedSinceExpectedVersion_fromRepository = Todo.builder()
+            .id(VALID_EXISTENT_TODO_ID).ownerUid(VALID_OWNER_UID)
+            .title("Title").description("Description").isCompleted(Boolean.FALSE).dueDate(DATE_IN_THE_FUTURE_FIXED)
+            .version(EXPECTED_TODO_VERSION + 1)
+            .build();
+
     public static final TodoRequest todoRequest_modifiedTitleAndCompletion_fromClient = TodoRequest.builder()
             .title("Updated Title").isCompleted(Boolean.TRUE)
             .build();
 
     public static final Todo todo_pending1_fromRepository = Todo.builder()
             .id(1L).ownerUid(VALID_OWNER_UID)
-            .title("title").description("desc").isCompleted(Boolean.FALSE).dueDate(Date.from(INSTANT_IN_THE_FUTURE_FIXED))
+            .title("title").description("desc").isCompleted(Boolean.FALSE).dueDate(DATE_IN_THE_FUTURE_FIXED)
             .build();
     public static final Todo todo_pending2_fromRepository = Todo.builder()
             .id(2L).ownerUid(VALID_OWNER_UID)
-            .title("another title").description("another desc").isCompleted(Boolean.FALSE).dueDate(Date.from(INSTANT_IN_THE_FUTURE_FIXED))
+            .title("another title").description("another desc").isCompleted(Boolean.FALSE).dueDate(DATE_IN_THE_FUTURE_FIXED)
+            .build();
+    public static final TodoView todoView_mapped1_fromPendingTodo = new TodoView(1L, "Task 1", "Desc 1", false, DATE_IN_THE_FUTURE_FIXED);
+    public static final TodoView todoView_mapped2_fromPendingTodo = new TodoView(2L, "Task 2", "Desc 2", false, DATE_IN_THE_FUTURE_FIXED);
+
+    public static final TodoCounter todoCounter_existing_fromRepository = TodoCounter.builder()
+            .ownerUid(VALID_OWNER_UID).pendingCount(40L).completedCount(2L)
             .build();
-    public static final TodoView todoView_mapped1_fromPendingTodo = new TodoView(1L, "Task 1", "Desc 1", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
-    public static final TodoView todoView_mapped2_fromPendingTodo = new TodoView(2L, "Task 2", "Desc 2", false, Date.from(INSTANT_IN_THE_FUTURE_FIXED));
 
     public static final Pageable pageable_firstPageSize10_fromClient = PageRequest.of(0, 10);
     public static final Pageable pageable_firstPageSize2_fromClient = PageRequest.of(0, 2);